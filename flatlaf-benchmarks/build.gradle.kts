@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+	`java-library`
+}
+
+val jmhVersion = "1.26"
+
+dependencies {
+	implementation( project( ":flatlaf-core" ) )
+	implementation( project( ":flatlaf-intellij-themes" ) )
+
+	implementation( "org.openjdk.jmh:jmh-core:${jmhVersion}" )
+	annotationProcessor( "org.openjdk.jmh:jmh-generator-annprocess:${jmhVersion}" )
+}
+
+tasks {
+	jar {
+		dependsOn( ":flatlaf-core:jar" )
+		dependsOn( ":flatlaf-intellij-themes:jar" )
+
+		archiveBaseName.set( "flatlaf-benchmarks" )
+
+		manifest {
+			attributes( "Main-Class" to "org.openjdk.jmh.Main" )
+
+			if( JavaVersion.current() >= JavaVersion.VERSION_1_9 )
+				attributes( "Multi-Release" to "true" )
+		}
+
+		exclude( "module-info.class" )
+		exclude( "META-INF/versions/*/module-info.class" )
+
+		// include all dependencies in jar
+		from( {
+			configurations.runtimeClasspath.get()
+				.filter { it.name.endsWith( "jar" ) }
+				.map { zipTree( it ).matching {
+					exclude( "META-INF/LICENSE" )
+				} }
+		} )
+	}
+
+	// run benchmarks with:
+	//     gradlew :flatlaf-benchmarks:jmh
+	// pass JMH options (e.g. benchmark name regexp) with:
+	//     gradlew :flatlaf-benchmarks:jmh -Pjmh="Paint -p scale=2 -rf json"
+	register<JavaExec>( "jmh" ) {
+		group = "benchmark"
+		description = "Runs JMH benchmarks."
+
+		classpath = sourceSets["main"].runtimeClasspath
+		main = "org.openjdk.jmh.Main"
+
+		if( project.hasProperty( "jmh" ) )
+			args( (project.property( "jmh" ) as String).split( ' ' ).filter { it.isNotEmpty() } )
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.swing.UIDefaults;
+import javax.swing.plaf.basic.BasicLookAndFeel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link UIDefaultsLoader#loadDefaultsFromProperties(Class, java.util.List, java.util.Properties, boolean, UIDefaults)}.
+ * <p>
+ * This class is in package {@code com.formdev.flatlaf} because {@link UIDefaultsLoader}
+ * is package private.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class UIDefaultsLoaderBenchmark
+{
+	@Param( { "FlatLightLaf", "FlatDarkLaf", "FlatIntelliJLaf", "FlatDarculaLaf" } )
+	public String laf;
+
+	/** Value of system property {@link FlatSystemProperties#LAZY_UI_DEFAULTS}. */
+	@Param( { "false", "true" } )
+	public boolean lazy;
+
+	private Class<?> lafClass;
+	private boolean dark;
+	private UIDefaults basicDefaults;
+
+	@Setup
+	public void setup() throws Exception {
+		System.setProperty( FlatSystemProperties.LAZY_UI_DEFAULTS, String.valueOf( lazy ) );
+
+		lafClass = Class.forName( "com.formdev.flatlaf." + laf );
+		dark = ((FlatLaf)lafClass.newInstance()).isDark();
+
+		// wildcard replacements in properties files are applied to existing UI defaults
+		// --> start with the UI defaults of the basic look and feel (same as in FlatLaf)
+		basicDefaults = new BasicLookAndFeel() {
+			@Override public String getName() { return "Basic"; }
+			@Override public String getID() { return "Basic"; }
+			@Override public String getDescription() { return "Basic"; }
+			@Override public boolean isNativeLookAndFeel() { return false; }
+			@Override public boolean isSupportedLookAndFeel() { return true; }
+		}.getDefaults();
+	}
+
+	@Benchmark
+	public UIDefaults loadDefaultsFromProperties() {
+		UIDefaults defaults = new UIDefaults( basicDefaults.size() * 2, 0.75f );
+		defaults.putAll( basicDefaults );
+
+		UIDefaultsLoader.loadDefaultsFromProperties( lafClass, Collections.emptyList(), null, dark, defaults );
+		return defaults;
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.swing.UIDefaults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLaf;
+
+/**
+ * Measures {@link FlatLaf#getDefaults()}, which is invoked when installing a look and feel.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class FlatLafDefaultsBenchmark
+{
+	@Param( { "FlatLightLaf", "FlatDarkLaf", "FlatIntelliJLaf", "FlatDarculaLaf" } )
+	public String laf;
+
+	private FlatLaf lookAndFeel;
+
+	@Setup
+	public void setup() throws Exception {
+		lookAndFeel = (FlatLaf) Class.forName( "com.formdev.flatlaf." + laf ).newInstance();
+	}
+
+	@Benchmark
+	public UIDefaults getDefaults() {
+		return lookAndFeel.getDefaults();
+	}
+}
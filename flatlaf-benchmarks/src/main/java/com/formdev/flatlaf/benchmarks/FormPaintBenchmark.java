@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JPanel;
+import javax.swing.JSpinner;
+import javax.swing.JTextField;
+import javax.swing.UIManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures headless painting of a large form with many text fields, combo boxes,
+ * spinners and buttons into a {@link BufferedImage}.
+ * <p>
+ * Most time is spent painting round borders and backgrounds
+ * (see {@link com.formdev.flatlaf.ui.FlatUIUtils#paintComponentBorder}).
+ * Run with JMH option {@code -prof gc} to see the allocation rate.
+ * <p>
+ * The scale factor is applied to the graphics context and is also returned
+ * as system scale factor by the device configuration of the graphics context.
+ * Borders and backgrounds are painted differently for fractional
+ * system scale factors (e.g. 150%).
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 3, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class FormPaintBenchmark
+{
+	@Param( { "100" } )
+	public int rows;
+
+	@Param( { "1", "1.5", "2" } )
+	public float scale;
+
+	private JPanel form;
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup
+	public void setup() throws Exception {
+		UIManager.setLookAndFeel( new FlatLightLaf() );
+
+		form = new JPanel( new GridLayout( rows, 4, 5, 5 ) );
+		for( int i = 0; i < rows; i++ ) {
+			form.add( new JTextField( "text " + i ) );
+			form.add( new JComboBox<>( new String[] { "item " + i } ) );
+			form.add( new JSpinner() );
+			form.add( new JButton( "button " + i ) );
+		}
+		form.setSize( form.getPreferredSize() );
+		layout( form );
+
+		image = new BufferedImage( (int) Math.ceil( form.getWidth() * scale ),
+			(int) Math.ceil( form.getHeight() * scale ), BufferedImage.TYPE_INT_ARGB );
+	}
+
+	@Setup( Level.Invocation )
+	public void createGraphics() {
+		g = new HiDPIGraphics( image.createGraphics(), scale );
+		g.scale( scale, scale );
+	}
+
+	@TearDown( Level.Invocation )
+	public void disposeGraphics() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public void paint() {
+		form.paint( g );
+	}
+
+	private static void layout( Component c ) {
+		c.doLayout();
+		if( c instanceof Container ) {
+			for( Component child : ((Container)c).getComponents() )
+				layout( child );
+		}
+	}
+}
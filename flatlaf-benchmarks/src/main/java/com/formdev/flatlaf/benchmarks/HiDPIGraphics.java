@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.image.ColorModel;
+import com.formdev.flatlaf.util.Graphics2DProxy;
+
+/**
+ * Graphics context that reports the given scale factor as system scale factor
+ * (see {@link com.formdev.flatlaf.util.UIScale#getSystemScaleFactor(Graphics2D)}).
+ *
+ * @author agent
+ */
+class HiDPIGraphics
+	extends Graphics2DProxy
+{
+	private final GraphicsConfiguration gc;
+
+	HiDPIGraphics( Graphics2D delegate, double scale ) {
+		super( delegate );
+
+		GraphicsConfiguration delegateGC = delegate.getDeviceConfiguration();
+		gc = new GraphicsConfiguration() {
+			@Override public GraphicsDevice getDevice() { return delegateGC.getDevice(); }
+			@Override public ColorModel getColorModel() { return delegateGC.getColorModel(); }
+			@Override public ColorModel getColorModel( int transparency ) { return delegateGC.getColorModel( transparency ); }
+			@Override public AffineTransform getDefaultTransform() { return AffineTransform.getScaleInstance( scale, scale ); }
+			@Override public AffineTransform getNormalizingTransform() { return delegateGC.getNormalizingTransform(); }
+			@Override public Rectangle getBounds() { return delegateGC.getBounds(); }
+		};
+	}
+
+	private HiDPIGraphics( Graphics2D delegate, GraphicsConfiguration gc ) {
+		super( delegate );
+		this.gc = gc;
+	}
+
+	@Override
+	public GraphicsConfiguration getDeviceConfiguration() {
+		return gc;
+	}
+
+	@Override
+	public Graphics create() {
+		return new HiDPIGraphics( (Graphics2D) super.create(), gc );
+	}
+
+	@Override
+	public Graphics create( int x, int y, int width, int height ) {
+		return new HiDPIGraphics( (Graphics2D) super.create( x, y, width, height ), gc );
+	}
+}
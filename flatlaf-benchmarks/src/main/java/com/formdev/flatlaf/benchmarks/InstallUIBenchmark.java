@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JPasswordField;
+import javax.swing.JScrollBar;
+import javax.swing.JSlider;
+import javax.swing.JSpinner;
+import javax.swing.JTextField;
+import javax.swing.JToggleButton;
+import javax.swing.UIManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures installing the UI delegates of many components, which is the same as
+ * invoking {@link JComponent#updateUI()} (uninstalls the old UI delegate and
+ * installs a new one).
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class InstallUIBenchmark
+{
+	@Param( { "JButton", "JToggleButton", "JTextField", "JPasswordField",
+		"JComboBox", "JSpinner", "JScrollBar", "JSlider" } )
+	public String component;
+
+	@Param( { "1000" } )
+	public int count;
+
+	private JComponent[] components;
+
+	@Setup
+	public void setup() throws Exception {
+		UIManager.setLookAndFeel( new FlatLightLaf() );
+
+		components = new JComponent[count];
+		for( int i = 0; i < count; i++ )
+			components[i] = createComponent();
+	}
+
+	@Benchmark
+	public void updateUI() {
+		for( JComponent c : components )
+			c.updateUI();
+	}
+
+	private JComponent createComponent() {
+		switch( component ) {
+			case "JButton":			return new JButton( "Button" );
+			case "JToggleButton":	return new JToggleButton( "Toggle" );
+			case "JTextField":		return new JTextField();
+			case "JPasswordField":	return new JPasswordField();
+			case "JComboBox":		return new JComboBox<>();
+			case "JSpinner":		return new JSpinner();
+			case "JScrollBar":		return new JScrollBar();
+			case "JSlider":			return new JSlider();
+			default:				throw new IllegalArgumentException( component );
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.IntelliJTheme;
+
+/**
+ * Measures construction of the bundled IntelliJ themes,
+ * which loads the precompiled themes (created at build time) into {@link IntelliJTheme}.
+ * If a precompiled theme is not available (e.g. when running from an IDE without
+ * Gradle build), the .theme.json file is parsed.
+ * <p>
+ * Keep the theme list in sync with
+ * {@link com.formdev.flatlaf.intellijthemes.FlatAllIJThemes#INFOS}.
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 3, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class IntelliJThemeBenchmark
+{
+	@Param( {
+		"FlatArcIJTheme",
+		"FlatArcOrangeIJTheme",
+		"FlatArcDarkIJTheme",
+		"FlatArcDarkOrangeIJTheme",
+		"FlatCarbonIJTheme",
+		"FlatCobalt2IJTheme",
+		"FlatCyanLightIJTheme",
+		"FlatDarkFlatIJTheme",
+		"FlatDarkPurpleIJTheme",
+		"FlatDraculaIJTheme",
+		"FlatGradiantoDarkFuchsiaIJTheme",
+		"FlatGradiantoDeepOceanIJTheme",
+		"FlatGradiantoMidnightBlueIJTheme",
+		"FlatGradiantoNatureGreenIJTheme",
+		"FlatGrayIJTheme",
+		"FlatGruvboxDarkHardIJTheme",
+		"FlatGruvboxDarkMediumIJTheme",
+		"FlatGruvboxDarkSoftIJTheme",
+		"FlatHiberbeeDarkIJTheme",
+		"FlatHighContrastIJTheme",
+		"FlatLightFlatIJTheme",
+		"FlatMaterialDesignDarkIJTheme",
+		"FlatMonocaiIJTheme",
+		"FlatNordIJTheme",
+		"FlatOneDarkIJTheme",
+		"FlatSolarizedDarkIJTheme",
+		"FlatSolarizedLightIJTheme",
+		"FlatSpacegrayIJTheme",
+		"FlatVuesionIJTheme",
+		"materialthemeuilite.FlatArcDarkIJTheme",
+		"materialthemeuilite.FlatArcDarkContrastIJTheme",
+		"materialthemeuilite.FlatAtomOneDarkIJTheme",
+		"materialthemeuilite.FlatAtomOneDarkContrastIJTheme",
+		"materialthemeuilite.FlatAtomOneLightIJTheme",
+		"materialthemeuilite.FlatAtomOneLightContrastIJTheme",
+		"materialthemeuilite.FlatDraculaIJTheme",
+		"materialthemeuilite.FlatDraculaContrastIJTheme",
+		"materialthemeuilite.FlatGitHubIJTheme",
+		"materialthemeuilite.FlatGitHubContrastIJTheme",
+		"materialthemeuilite.FlatLightOwlIJTheme",
+		"materialthemeuilite.FlatLightOwlContrastIJTheme",
+		"materialthemeuilite.FlatMaterialDarkerIJTheme",
+		"materialthemeuilite.FlatMaterialDarkerContrastIJTheme",
+		"materialthemeuilite.FlatMaterialDeepOceanIJTheme",
+		"materialthemeuilite.FlatMaterialDeepOceanContrastIJTheme",
+		"materialthemeuilite.FlatMaterialLighterIJTheme",
+		"materialthemeuilite.FlatMaterialLighterContrastIJTheme",
+		"materialthemeuilite.FlatMaterialOceanicIJTheme",
+		"materialthemeuilite.FlatMaterialOceanicContrastIJTheme",
+		"materialthemeuilite.FlatMaterialPalenightIJTheme",
+		"materialthemeuilite.FlatMaterialPalenightContrastIJTheme",
+		"materialthemeuilite.FlatMonokaiProIJTheme",
+		"materialthemeuilite.FlatMonokaiProContrastIJTheme",
+		"materialthemeuilite.FlatMoonlightIJTheme",
+		"materialthemeuilite.FlatMoonlightContrastIJTheme",
+		"materialthemeuilite.FlatNightOwlIJTheme",
+		"materialthemeuilite.FlatNightOwlContrastIJTheme",
+		"materialthemeuilite.FlatSolarizedDarkIJTheme",
+		"materialthemeuilite.FlatSolarizedDarkContrastIJTheme",
+		"materialthemeuilite.FlatSolarizedLightIJTheme",
+		"materialthemeuilite.FlatSolarizedLightContrastIJTheme"
+	} )
+	public String theme;
+
+	private Constructor<?> constructor;
+
+	@Setup
+	public void setup() throws Exception {
+		constructor = Class.forName( "com.formdev.flatlaf.intellijthemes." + theme ).getConstructor();
+	}
+
+	@Benchmark
+	public Object construct() throws Exception {
+		return constructor.newInstance();
+	}
+}
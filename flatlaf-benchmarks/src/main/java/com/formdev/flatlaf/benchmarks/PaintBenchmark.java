@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.*;
+import javax.swing.table.JTableHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLaf;
+
+/**
+ * Measures headless painting of components (using the FlatLaf UI delegates)
+ * into a {@link BufferedImage}.
+ * <p>
+ * The scale factor is applied to the graphics context,
+ * which is the same as painting on a HiDPI screen (Java 9+).
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 3, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class PaintBenchmark
+{
+	@Param( { "FlatLightLaf", "FlatDarkLaf" } )
+	public String laf;
+
+	@Param( {
+		"Button", "CheckBox", "CheckBoxMenuItem", "ColorChooser", "ComboBox", "DesktopPane",
+		"EditorPane", "FormattedTextField", "InternalFrame", "Label", "List", "Menu",
+		"MenuBar", "MenuItem", "OptionPane", "Panel", "PasswordField", "PopupMenu",
+		"ProgressBar", "RadioButton", "RadioButtonMenuItem", "ScrollBar", "ScrollPane",
+		"Separator", "Slider", "Spinner", "SplitPane", "TabbedPane", "Table", "TableHeader",
+		"TextArea", "TextField", "TextPane", "ToggleButton", "ToolBar", "ToolTip", "Tree",
+	} )
+	public String component;
+
+	@Param( { "1", "1.5", "2" } )
+	public float scale;
+
+	private JComponent c;
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup
+	public void setup() throws Exception {
+		UIManager.setLookAndFeel( (FlatLaf) Class.forName( "com.formdev.flatlaf." + laf ).newInstance() );
+
+		c = createComponent( component );
+		Dimension size = c.getPreferredSize();
+		c.setSize( Math.max( size.width, 50 ), Math.max( size.height, 20 ) );
+		layout( c );
+
+		image = new BufferedImage( (int) Math.ceil( c.getWidth() * scale ),
+			(int) Math.ceil( c.getHeight() * scale ), BufferedImage.TYPE_INT_ARGB );
+	}
+
+	@Setup( Level.Invocation )
+	public void createGraphics() {
+		g = image.createGraphics();
+		g.scale( scale, scale );
+	}
+
+	@TearDown( Level.Invocation )
+	public void disposeGraphics() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public void paint() {
+		c.paint( g );
+	}
+
+	private static void layout( Component c ) {
+		c.doLayout();
+		if( c instanceof Container ) {
+			for( Component child : ((Container)c).getComponents() )
+				layout( child );
+		}
+	}
+
+	private static JComponent createComponent( String name ) {
+		String text = "Some Text";
+		String[] items = { "one", "two", "three", "four", "five", "six", "seven", "eight" };
+
+		switch( name ) {
+			case "Button":				return new JButton( text );
+			case "CheckBox":			return new JCheckBox( text, true );
+			case "CheckBoxMenuItem":	return new JCheckBoxMenuItem( text, true );
+			case "ColorChooser":		return new JColorChooser();
+			case "ComboBox":			return new JComboBox<>( items );
+			case "EditorPane":			return new JEditorPane( "text/plain", text );
+			case "FormattedTextField":	return new JFormattedTextField( 12345 );
+			case "Label":				return new JLabel( text );
+			case "List":				return new JList<>( items );
+			case "MenuItem":			return new JMenuItem( text );
+			case "OptionPane":			return new JOptionPane( text, JOptionPane.INFORMATION_MESSAGE );
+			case "Panel":				return new JPanel();
+			case "PasswordField":		return new JPasswordField( text );
+			case "ProgressBar":			return new JProgressBar( 0, 100 ) {{ setValue( 40 ); }};
+			case "RadioButton":			return new JRadioButton( text, true );
+			case "RadioButtonMenuItem":	return new JRadioButtonMenuItem( text, true );
+			case "ScrollBar":			return new JScrollBar( JScrollBar.VERTICAL, 20, 10, 0, 100 ) {{ setSize( 10, 200 ); }};
+			case "ScrollPane":			return new JScrollPane( new JTextArea( 50, 50 ) ) {{ setPreferredSize( new Dimension( 300, 200 ) ); }};
+			case "Separator":			return new JSeparator() {{ setPreferredSize( new Dimension( 200, 5 ) ); }};
+			case "Slider":				return new JSlider();
+			case "Spinner":				return new JSpinner();
+			case "SplitPane":			return new JSplitPane( JSplitPane.HORIZONTAL_SPLIT, new JLabel( text ), new JLabel( text ) );
+			case "TextArea":			return new JTextArea( text, 5, 20 );
+			case "TextField":			return new JTextField( text );
+			case "TextPane":			return new JTextPane() {{ setText( text ); }};
+			case "ToggleButton":		return new JToggleButton( text, true );
+			case "ToolTip":				return new JToolTip() {{ setTipText( text ); }};
+
+			case "DesktopPane":
+				JDesktopPane desktopPane = new JDesktopPane();
+				desktopPane.setPreferredSize( new Dimension( 400, 300 ) );
+				return desktopPane;
+
+			case "InternalFrame":
+				JInternalFrame internalFrame = new JInternalFrame( text, true, true, true, true );
+				internalFrame.setPreferredSize( new Dimension( 300, 200 ) );
+				internalFrame.setVisible( true );
+				return internalFrame;
+
+			case "Menu":
+				JMenu menu = new JMenu( text );
+				new JMenuBar().add( menu );
+				return menu;
+
+			case "MenuBar":
+				JMenuBar menuBar = new JMenuBar();
+				for( int i = 0; i < 5; i++ )
+					menuBar.add( new JMenu( items[i] ) );
+				return menuBar;
+
+			case "PopupMenu":
+				JPopupMenu popupMenu = new JPopupMenu();
+				for( String item : items )
+					popupMenu.add( item );
+				return popupMenu;
+
+			case "TabbedPane":
+				JTabbedPane tabbedPane = new JTabbedPane();
+				for( String item : items )
+					tabbedPane.addTab( item, new JPanel() );
+				tabbedPane.setPreferredSize( new Dimension( 300, 200 ) );
+				return tabbedPane;
+
+			case "Table":
+			case "TableHeader":
+				JTable table = new JTable( 20, 8 );
+				for( int row = 0; row < 20; row++ ) {
+					for( int col = 0; col < 8; col++ )
+						table.setValueAt( items[col], row, col );
+				}
+				table.setRowSelectionInterval( 2, 2 );
+				JTableHeader header = table.getTableHeader();
+				return name.equals( "Table" ) ? table : header;
+
+			case "ToolBar":
+				JToolBar toolBar = new JToolBar();
+				for( String item : items )
+					toolBar.add( new JButton( item ) );
+				return toolBar;
+
+			case "Tree":
+				JTree tree = new JTree();
+				for( int row = 0; row < tree.getRowCount(); row++ )
+					tree.expandRow( row );
+				tree.setSelectionRow( 2 );
+				return tree;
+
+			default:
+				throw new IllegalArgumentException( name );
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.UIManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures headless painting of a large table (with grid lines) in a scroll pane
+ * into a {@link BufferedImage}.
+ * <p>
+ * The scale factor is applied to the graphics context and is also returned
+ * as system scale factor by the device configuration of the graphics context,
+ * which is the same as painting on a HiDPI screen (Java 9+).
+ * This is necessary because table grid painting is different
+ * for fractional system scale factors (e.g. 150%).
+ *
+ * @author agent
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 3, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class TablePaintBenchmark
+{
+	private static final int ROW_COUNT = 1000;
+
+	@Param( { "20", "200" } )
+	public int columns;
+
+	@Param( { "true", "false" } )
+	public boolean showGrid;
+
+	@Param( { "1", "1.5", "2" } )
+	public float scale;
+
+	private JScrollPane scrollPane;
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup
+	public void setup() throws Exception {
+		UIManager.setLookAndFeel( new FlatLightLaf() );
+
+		JTable table = new JTable( ROW_COUNT, columns );
+		for( int row = 0; row < ROW_COUNT; row++ ) {
+			for( int col = 0; col < columns; col++ )
+				table.setValueAt( row * col, row, col );
+		}
+		table.setAutoResizeMode( JTable.AUTO_RESIZE_OFF );
+		table.setShowGrid( showGrid );
+		table.setRowSelectionInterval( 10, 12 );
+
+		// 1920x1080 is the size of a maximized window on a full HD screen
+		scrollPane = new JScrollPane( table );
+		scrollPane.setSize( 1920, 1080 );
+		layout( scrollPane );
+
+		image = new BufferedImage( (int) Math.ceil( scrollPane.getWidth() * scale ),
+			(int) Math.ceil( scrollPane.getHeight() * scale ), BufferedImage.TYPE_INT_ARGB );
+	}
+
+	@Setup( Level.Invocation )
+	public void createGraphics() {
+		g = new HiDPIGraphics( image.createGraphics(), scale );
+		g.scale( scale, scale );
+	}
+
+	@TearDown( Level.Invocation )
+	public void disposeGraphics() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public void paint() {
+		scrollPane.paint( g );
+	}
+
+	private static void layout( Component c ) {
+		c.doLayout();
+		if( c instanceof Container ) {
+			for( Component child : ((Container)c).getComponents() )
+				layout( child );
+		}
+	}
+}
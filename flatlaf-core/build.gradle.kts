@@ -26,7 +26,28 @@ java {
 	withJavadocJar()
 }
 
+// precompiled UI defaults snapshots (see class com.formdev.flatlaf.UIDefaultsSnapshot)
+val defaultsSnapshotsDir = file( "${buildDir}/generated/defaults-snapshots" )
+
+sourceSets["main"].output.dir( mapOf( "builtBy" to "generateDefaultsSnapshots" ), defaultsSnapshotsDir )
+
 tasks {
+	register<JavaExec>( "generateDefaultsSnapshots" ) {
+		description = "Creates precompiled UI defaults snapshots of the bundled themes."
+		dependsOn( "compileJava", "processResources" )
+
+		classpath = files( sourceSets["main"].output.classesDirs, sourceSets["main"].output.resourcesDir )
+		main = "com.formdev.flatlaf.UIDefaultsSnapshot"
+		jvmArgs( "-Djava.awt.headless=true" )
+		args( defaultsSnapshotsDir )
+
+		outputs.dir( defaultsSnapshotsDir )
+
+		doFirst {
+			delete( defaultsSnapshotsDir )
+		}
+	}
+
 	jar {
 		archiveBaseName.set( "flatlaf" )
 
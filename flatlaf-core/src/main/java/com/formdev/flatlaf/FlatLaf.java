@@ -36,8 +36,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.BorderFactory;
@@ -60,6 +64,7 @@ import javax.swing.plaf.basic.BasicLookAndFeel;
 import javax.swing.text.StyleContext;
 import javax.swing.text.html.HTMLEditorKit;
 import com.formdev.flatlaf.ui.FlatPopupFactory;
+import com.formdev.flatlaf.ui.FlatUIUtils;
 import com.formdev.flatlaf.ui.JBRCustomDecorations;
 import com.formdev.flatlaf.util.GrayFilter;
 import com.formdev.flatlaf.util.MultiResolutionImageSupport;
@@ -91,9 +96,18 @@ public abstract class FlatLaf
 
 	private Consumer<UIDefaults> postInitialization;
 
+	/** UI defaults created in {@link #prepareAsync(Supplier)}. */
+	private volatile UIDefaults preparedDefaults;
+
 	private Boolean oldFrameWindowDecorated;
 	private Boolean oldDialogWindowDecorated;
 
+	/**
+	 * Disabled icons created in {@link #getDisabledIcon(JComponent, Icon)}.
+	 * Key is the enabled icon.
+	 */
+	private final Map<Icon, DisabledIconCacheEntry> disabledIconCache = new WeakHashMap<>();
+
 	/**
 	 * Sets the application look and feel to the given LaF
 	 * using {@link UIManager#setLookAndFeel(javax.swing.LookAndFeel)}.
@@ -108,6 +122,76 @@ public abstract class FlatLaf
 		}
 	}
 
+	/**
+	 * Creates a look and feel and its UI defaults in a background thread.
+	 * <p>
+	 * Loading and parsing of the UI defaults (properties files, IntelliJ themes,
+	 * system font, etc) is done in the background thread. This includes values that
+	 * would be parsed on first usage if system property
+	 * {@link FlatSystemProperties#LAZY_UI_DEFAULTS} is {@code true}.
+	 * Setting the returned look and feel (e.g. with {@link #install(LookAndFeel)})
+	 * then uses the prepared UI defaults, which is much faster than creating them
+	 * on the AWT event dispatching thread.
+	 * <p>
+	 * The prepared UI defaults are used only once. Changes of system properties,
+	 * addons or custom defaults sources after preparation are not used.
+	 * Addons ({@link FlatDefaultsAddon#afterDefaultsLoading(LookAndFeel, UIDefaults)})
+	 * are invoked in the background thread.
+	 * <p>
+	 * Example:
+	 * <pre>
+	 * FlatLaf.prepareAsync( FlatDarkLaf::new ).thenAcceptAsync( laf -&gt; {
+	 *     FlatLaf.install( laf );
+	 *     FlatLaf.updateUI();
+	 * }, EventQueue::invokeLater );
+	 * </pre>
+	 *
+	 * @param lafSupplier creates the look and feel (invoked in the background thread)
+	 * @return a future that completes (in the background thread) with the prepared look and feel
+	 * @see #installAsync(Supplier)
+	 */
+	public static <T extends FlatLaf> CompletableFuture<T> prepareAsync( Supplier<T> lafSupplier ) {
+		// addons and properties files are loaded using the context class loader
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+		return CompletableFuture.supplyAsync( () -> {
+			Thread thread = Thread.currentThread();
+			ClassLoader oldContextClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader( contextClassLoader );
+			try {
+				T laf = lafSupplier.get();
+				FlatLaf flatLaf = laf;
+				UIDefaults defaults = flatLaf.createDefaults();
+				UIDefaultsLoader.parseLazyValues( defaults );
+				flatLaf.preparedDefaults = defaults;
+				return laf;
+			} finally {
+				thread.setContextClassLoader( oldContextClassLoader );
+			}
+		}, FlatUIUtils.getBackgroundExecutor() );
+	}
+
+	/**
+	 * Creates a look and feel and its UI defaults in a background thread
+	 * (see {@link #prepareAsync(Supplier)}), then sets it as application look and feel
+	 * and updates the UI of all application windows on the AWT event dispatching thread.
+	 *
+	 * @param lafSupplier creates the look and feel (invoked in the background thread)
+	 * @return a future that completes (on the AWT event dispatching thread)
+	 *         after the look and feel has been set and the UI updated
+	 */
+	public static <T extends FlatLaf> CompletableFuture<T> installAsync( Supplier<T> lafSupplier ) {
+		return prepareAsync( lafSupplier ).thenApplyAsync( laf -> {
+			try {
+				UIManager.setLookAndFeel( laf );
+			} catch( UnsupportedLookAndFeelException ex ) {
+				throw new CompletionException( ex );
+			}
+			updateUI();
+			return laf;
+		}, EventQueue::invokeLater );
+	}
+
 	/**
 	 * Adds the given look and feel to the set of available look and feels.
 	 * <p>
@@ -189,6 +273,13 @@ public abstract class FlatLaf
 
 		if( icon instanceof ImageIcon ) {
 			Object grayFilter = UIManager.get( "Component.grayFilter" );
+			Image image = ((ImageIcon)icon).getImage();
+
+			// use cached disabled icon if image and gray filter were not changed
+			DisabledIconCacheEntry entry = disabledIconCache.get( icon );
+			if( entry != null && entry.image == image && entry.grayFilter == grayFilter )
+				return entry.disabledIcon;
+
 			ImageFilter filter = (grayFilter instanceof ImageFilter)
 				? (ImageFilter) grayFilter
 				: GrayFilter.createDisabledIconFilter( isDark() ); // fallback
@@ -198,8 +289,9 @@ public abstract class FlatLaf
 				return Toolkit.getDefaultToolkit().createImage( producer );
 			};
 
-			Image image = ((ImageIcon)icon).getImage();
-			return new ImageIconUIResource( MultiResolutionImageSupport.map( image, mapper ) );
+			Icon disabledIcon = new ImageIconUIResource( MultiResolutionImageSupport.map( image, mapper ) );
+			disabledIconCache.put( icon, new DisabledIconCacheEntry( image, grayFilter, disabledIcon ) );
+			return disabledIcon;
 		}
 
 		return null;
@@ -279,6 +371,8 @@ public abstract class FlatLaf
 
 	@Override
 	public void uninitialize() {
+		disabledIconCache.clear();
+
 		// remove desktop property listener
 		if( desktopPropertyListener != null ) {
 			Toolkit toolkit = Toolkit.getDefaultToolkit();
@@ -357,8 +451,50 @@ public abstract class FlatLaf
 		PopupFactory.setSharedInstance( oldPopupFactory );
 	}
 
+	/**
+	 * Returns the UI defaults of this look and feel.
+	 * <p>
+	 * If this look and feel was prepared with {@link #prepareAsync(Supplier)},
+	 * the UI defaults created in the background thread are returned (only once).
+	 */
 	@Override
 	public UIDefaults getDefaults() {
+		UIDefaults defaults = preparedDefaults;
+		if( defaults != null )
+			preparedDefaults = null;
+		else
+			defaults = createDefaults();
+
+		if( postInitialization != null ) {
+			postInitialization.accept( defaults );
+			postInitialization = null;
+		}
+
+		return defaults;
+	}
+
+	/**
+	 * Creates the UI defaults of this look and feel.
+	 * Does not depend on the current look and feel and may run in a background thread
+	 * (see {@link #prepareAsync(Supplier)}).
+	 */
+	private UIDefaults createDefaults() {
+		// run independent and I/O bound stages (addon discovery, loading properties files,
+		// getting system font) concurrently in background threads,
+		// results are applied to UI defaults in this thread (in same order as before)
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		List<Class<?>> lafClassesForDefaultsLoading = getLafClassesForDefaultsLoading();
+		List<Class<?>> lafClasses = (lafClassesForDefaultsLoading != null)
+			? lafClassesForDefaultsLoading
+			: UIDefaultsLoader.getLafClasses( getClass() );
+		boolean dark = isDark();
+
+		CompletableFuture<List<FlatDefaultsAddon>> addonsFuture = supplyAsync(
+			() -> loadAddons( contextClassLoader ) );
+		CompletableFuture<UIDefaultsLoader.Preloaded> preloadedFuture = supplyAsync(
+			() -> UIDefaultsLoader.preload( lafClasses, dark ) );
+		CompletableFuture<FontUIResource> uiFontFuture = supplyAsync( FlatLaf::createUIFont );
+
 		UIDefaults defaults = super.getDefaults();
 
 		// add flag that indicates whether the LaF is light or dark
@@ -396,23 +532,16 @@ public abstract class FlatLaf
 		putDefaults( defaults, defaults.getColor( "textText" ),
 			"DesktopIcon.foreground" );
 
-		initFonts( defaults );
+		initFonts( defaults, join( uiFontFuture ) );
 		initIconColors( defaults, isDark() );
 		FlatInputMaps.initInputMaps( defaults );
 
-		// get addons and sort them by priority
-		ServiceLoader<FlatDefaultsAddon> addonLoader = ServiceLoader.load( FlatDefaultsAddon.class );
-		List<FlatDefaultsAddon> addons = new ArrayList<>();
-		for( FlatDefaultsAddon addon : addonLoader )
-			addons.add( addon );
-		addons.sort( (addon1, addon2) -> addon1.getPriority() - addon2.getPriority() );
+		// get addons (sorted by priority)
+		List<FlatDefaultsAddon> addons = join( addonsFuture );
 
 		// load defaults from properties
-		List<Class<?>> lafClassesForDefaultsLoading = getLafClassesForDefaultsLoading();
-		if( lafClassesForDefaultsLoading != null )
-			UIDefaultsLoader.loadDefaultsFromProperties( lafClassesForDefaultsLoading, addons, getAdditionalDefaults(), isDark(), defaults );
-		else
-			UIDefaultsLoader.loadDefaultsFromProperties( getClass(), addons, getAdditionalDefaults(), isDark(), defaults );
+		UIDefaultsLoader.loadDefaultsFromProperties( lafClasses, addons, getAdditionalDefaults(),
+			isDark(), defaults, join( preloadedFuture ) );
 
 		// use Aqua MenuBarUI if Mac screen menubar is enabled
 		if( SystemInfo.isMacOS && Boolean.getBoolean( "apple.laf.useScreenMenuBar" ) ) {
@@ -437,11 +566,6 @@ public abstract class FlatLaf
 			return UIScale.getUserScaleFactor();
 		} );
 
-		if( postInitialization != null ) {
-			postInitialization.accept( defaults );
-			postInitialization = null;
-		}
-
 		return defaults;
 	}
 
@@ -456,7 +580,59 @@ public abstract class FlatLaf
 		return null;
 	}
 
-	private void initFonts( UIDefaults defaults ) {
+	/**
+	 * Gets addons and sorts them by priority.
+	 */
+	private static List<FlatDefaultsAddon> loadAddons( ClassLoader classLoader ) {
+		ServiceLoader<FlatDefaultsAddon> addonLoader = ServiceLoader.load( FlatDefaultsAddon.class, classLoader );
+		List<FlatDefaultsAddon> addons = new ArrayList<>();
+		for( FlatDefaultsAddon addon : addonLoader )
+			addons.add( addon );
+		addons.sort( (addon1, addon2) -> addon1.getPriority() - addon2.getPriority() );
+		return addons;
+	}
+
+	/**
+	 * Runs a stage of {@link #getDefaults()} in a background thread.
+	 * On single-core systems, the stage runs immediately in the current thread
+	 * because background threads would only add overhead.
+	 */
+	private static <T> CompletableFuture<T> supplyAsync( Supplier<T> supplier ) {
+		if( Runtime.getRuntime().availableProcessors() > 1 )
+			return CompletableFuture.supplyAsync( supplier, FlatUIUtils.getBackgroundExecutor() );
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			future.complete( supplier.get() );
+		} catch( Throwable ex ) {
+			future.completeExceptionally( ex );
+		}
+		return future;
+	}
+
+	/**
+	 * Waits for the result of a background stage of {@link #getDefaults()}
+	 * and rethrows exceptions thrown in background thread.
+	 */
+	private static <T> T join( CompletableFuture<T> future ) {
+		try {
+			return future.join();
+		} catch( CompletionException ex ) {
+			Throwable cause = ex.getCause();
+			if( cause instanceof RuntimeException )
+				throw (RuntimeException) cause;
+			if( cause instanceof Error )
+				throw (Error) cause;
+			throw ex;
+		}
+	}
+
+	/**
+	 * Returns the system font (or a fallback font).
+	 * May read system configuration files (e.g. on Linux) and
+	 * is invoked in a background thread.
+	 */
+	private static FontUIResource createUIFont() {
 		FontUIResource uiFont = null;
 
 		if( SystemInfo.isWindows ) {
@@ -493,6 +669,10 @@ public abstract class FlatLaf
 		if( uiFont == null )
 			uiFont = createCompositeFont( Font.SANS_SERIF, Font.PLAIN, 12 );
 
+		return uiFont;
+	}
+
+	private void initFonts( UIDefaults defaults, FontUIResource uiFont ) {
 		// increase font size if system property "flatlaf.uiScale" is set
 		uiFont = UIScale.applyCustomScaleFactor( uiFont );
 
@@ -790,6 +970,21 @@ public abstract class FlatLaf
 		}
 	}
 
+	//---- class DisabledIconCacheEntry ---------------------------------------
+
+	private static class DisabledIconCacheEntry
+	{
+		final Image image;
+		final Object grayFilter;
+		final Icon disabledIcon;
+
+		DisabledIconCacheEntry( Image image, Object grayFilter, Icon disabledIcon ) {
+			this.image = image;
+			this.grayFilter = grayFilter;
+			this.disabledIcon = disabledIcon;
+		}
+	}
+
 	//---- interface DisabledIconProvider -------------------------------------
 
 	/**
@@ -108,6 +108,45 @@ public interface FlatSystemProperties
 	 */
 	String USE_TEXT_Y_CORRECTION = "flatlaf.useTextYCorrection";
 
+	/**
+	 * Specifies whether UI default values loaded from properties files are parsed lazily.
+	 * <p>
+	 * If enabled, colors, borders, icons, etc. are not parsed when the look and feel
+	 * is initialized, but when the value is first requested from {@link javax.swing.UIDefaults}.
+	 * This reduces startup time because values of components that are not used
+	 * in the application are never parsed (e.g. JIDE or SwingX specific values).
+	 * Parse errors are then reported on first usage.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code false}
+	 */
+	String LAZY_UI_DEFAULTS = "flatlaf.lazyUIDefaults";
+
+	/**
+	 * Specifies whether paint times of UI delegates, borders and icons are recorded.
+	 * <p>
+	 * If enabled, the statistics are available via {@link com.formdev.flatlaf.util.PaintStatistics}
+	 * and as Java Flight Recorder events (Java 12 or later).
+	 * The times needed to create and show popups are reported
+	 * as separate Java Flight Recorder events.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code false}
+	 */
+	String PAINT_STATISTICS = "flatlaf.paintStatistics";
+
+	/**
+	 * Specifies whether rounded component borders and backgrounds are painted
+	 * using cached images, which are stretched to the component size.
+	 * <p>
+	 * This improves painting performance if Java2D uses software rendering
+	 * for anti-aliased shapes (e.g. on remote X11 displays or via VNC).
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code false}
+	 */
+	String NINE_SLICE_CACHE = "flatlaf.nineSliceCache";
+
 	/**
 	 * Checks whether a system property is set and returns {@code true} if its value
 	 * is {@code "true"} (case-insensitive), otherwise it returns {@code false}.
@@ -23,17 +23,17 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import javax.swing.UIDefaults;
 import javax.swing.plaf.ColorUIResource;
-import com.formdev.flatlaf.json.Json;
+import com.formdev.flatlaf.json.JsonHandler;
+import com.formdev.flatlaf.json.JsonParser;
 import com.formdev.flatlaf.json.ParseException;
 import com.formdev.flatlaf.util.StringUtils;
 
@@ -59,11 +59,7 @@ public class IntelliJTheme
 
 	private final boolean isMaterialUILite;
 
-	private final Map<String, String> colors;
-	private final Map<String, Object> ui;
-	private final Map<String, Object> icons;
-
-	private Map<String, ColorUIResource> namedColors = Collections.emptyMap();
+	private final IntelliJThemeSnapshot snapshot;
 
 	/**
 	 * Loads a IntelliJ .theme.json file from the given input stream,
@@ -107,30 +103,61 @@ public class IntelliJTheme
 	 * The input stream is automatically closed.
 	 * Using a buffered input stream is not necessary.
 	 */
-	@SuppressWarnings( "unchecked" )
 	public IntelliJTheme( InputStream in )
 		throws IOException
 	{
-		Map<String, Object> json;
-	    try( Reader reader = new InputStreamReader( in, StandardCharsets.UTF_8 ) ) {
-	    		json = (Map<String, Object>) Json.parse( reader );
+		// convert JSON while parsing (without creating a JSON object tree)
+		ThemeHandler handler = new ThemeHandler();
+		try( Reader reader = new InputStreamReader( in, StandardCharsets.UTF_8 ) ) {
+			new JsonParser( handler ).parse( reader );
 		} catch( ParseException ex ) {
 			throw new IOException( ex.getMessage(), ex );
 		}
 
-	    name = (String) json.get( "name" );
-	    dark = Boolean.parseBoolean( (String) json.get( "dark" ) );
-	    author = (String) json.get( "author" );
+		snapshot = handler.createSnapshot();
+
+		name = snapshot.name;
+		dark = snapshot.dark;
+		author = snapshot.author;
+
+		isMaterialUILite = author.equals( "Mallowigi" );
+	}
+
+	private IntelliJTheme( IntelliJThemeSnapshot snapshot ) {
+		name = snapshot.name;
+		dark = snapshot.dark;
+		author = snapshot.author;
 
 		isMaterialUILite = author.equals( "Mallowigi" );
 
-	    colors = (Map<String, String>) json.get( "colors" );
-	    ui = (Map<String, Object>) json.get( "ui" );
-	    icons = (Map<String, Object>) json.get( "icons" );
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Loads a precompiled IntelliJ theme from the given input stream.
+	 * Precompiled themes are created at build time from .theme.json files
+	 * (e.g. for the themes bundled in flatlaf-intellij-themes) and load faster
+	 * because no JSON parsing and key mapping is necessary.
+	 *
+	 * Returns {@code null} if the precompiled theme was created by an
+	 * incompatible FlatLaf version. Use the .theme.json file in this case.
+	 *
+	 * The input stream is automatically closed.
+	 * Using a buffered input stream is not necessary.
+	 */
+	public static IntelliJTheme loadPrecompiled( InputStream in )
+		throws IOException
+	{
+		IntelliJThemeSnapshot snapshot = IntelliJThemeSnapshot.load( in );
+		return (snapshot != null) ? new IntelliJTheme( snapshot ) : null;
+	}
+
+	IntelliJThemeSnapshot getSnapshot() {
+		return snapshot;
 	}
 
 	private void applyProperties( UIDefaults defaults ) {
-		if( ui == null )
+		if( snapshot.entries == null )
 			return;
 
 		defaults.put( "Component.isIntelliJTheme", true );
@@ -141,16 +168,22 @@ public class IntelliJTheme
 
 		Map<Object, Object> themeSpecificDefaults = removeThemeSpecificDefaults( defaults );
 
-		loadNamedColors( defaults );
+		// named colors
+		for( Map.Entry<String, ColorUIResource> e : snapshot.namedColors.entrySet() )
+			defaults.put( "ColorPalette." + e.getKey(), e.getValue() );
 
-		// convert Json "ui" structure to UI defaults
+		// UI entries
 		ArrayList<Object> defaultsKeysCache = new ArrayList<>();
-		Set<String> uiKeys = new HashSet<>();
-		for( Map.Entry<String, Object> e : ui.entrySet() )
-			apply( e.getKey(), e.getValue(), defaults, defaultsKeysCache, uiKeys );
+		for( IntelliJThemeSnapshot.Entry entry : snapshot.entries )
+			apply( entry, defaults, defaultsKeysCache );
+
+		// colors from "icons > ColorPalette"
+		for( Map.Entry<String, ColorUIResource> e : snapshot.paletteColors.entrySet() )
+			defaults.put( e.getKey(), e.getValue() );
+		if( snapshot.checkboxModified )
+			updateCheckBoxColors( defaults );
 
-		applyColorPalette( defaults );
-		applyCheckBoxColors( defaults );
+		Set<String> uiKeys = snapshot.uiKeys;
 
 		// copy values
 		for( Map.Entry<String, String> e : uiKeyCopying.entrySet() )
@@ -257,252 +290,77 @@ public class IntelliJTheme
 		return themeSpecificDefaults;
 	}
 
-	/**
-	 * http://www.jetbrains.org/intellij/sdk/docs/reference_guide/ui_themes/themes_customize.html#defining-named-colors
-	 */
-	private void loadNamedColors( UIDefaults defaults ) {
-		if( colors == null )
-			return;
-
-		namedColors = new HashMap<>();
-
-		for( Map.Entry<String, String> e : colors.entrySet() ) {
-			String value = e.getValue();
-			ColorUIResource color = UIDefaultsLoader.parseColor( value );
-			if( color != null ) {
-				String key = e.getKey();
-				namedColors.put( key, color );
-				defaults.put( "ColorPalette." + key, color );
+	private void apply( IntelliJThemeSnapshot.Entry entry, UIDefaults defaults, ArrayList<Object> defaultsKeysCache ) {
+		String key = entry.key;
+		Object uiValue = entry.value;
+
+		// parse value
+		if( entry.valueStr != null ) {
+			try {
+				uiValue = UIDefaultsLoader.parseValue( key, entry.valueStr );
+			} catch( RuntimeException ex ) {
+				UIDefaultsLoader.logParseError( Level.CONFIG, key, entry.valueStr, ex );
+				return; // ignore invalid value
 			}
 		}
-	}
 
-	/**
-	 * http://www.jetbrains.org/intellij/sdk/docs/reference_guide/ui_themes/themes_customize.html#custom-ui-control-colors
-	 */
-	@SuppressWarnings( "unchecked" )
-	private void apply( String key, Object value, UIDefaults defaults, ArrayList<Object> defaultsKeysCache, Set<String> uiKeys ) {
-		if( value instanceof Map ) {
-			for( Map.Entry<String, Object> e : ((Map<String, Object>)value).entrySet() )
-				apply( key + '.' + e.getKey(), e.getValue(), defaults, defaultsKeysCache, uiKeys );
-		} else {
-			if( "".equals( value ) )
-				return; // ignore empty value
-
-			uiKeys.add( key );
-
-			// fix ComboBox size and Spinner border in all Material UI Lite themes
-			if( isMaterialUILite && (key.equals( "ComboBox.padding" ) || key.equals( "Spinner.border" )) )
-				return; // ignore
-
-			// map keys
-			key = uiKeyMapping.getOrDefault( key, key );
-			if( key.isEmpty() )
-				return; // ignore key
-
-			String valueStr = value.toString();
-
-			// map named colors
-			Object uiValue = namedColors.get( valueStr );
-
-			// parse value
-			if( uiValue == null ) {
-				// fix errors (missing '#' for colors)
-				if( !valueStr.startsWith( "#" ) && (key.endsWith( "ground" ) || key.endsWith( "Color" )) )
-					valueStr = fixColorIfValid( "#" + valueStr, valueStr );
-				else if( valueStr.startsWith( "##" ) )
-					valueStr = fixColorIfValid( valueStr.substring( 1 ), valueStr );
-				else if( key.endsWith( ".border" ) || key.endsWith( "Border" ) ) {
-					List<String> parts = StringUtils.split( valueStr, ',' );
-					if( parts.size() == 5 && !parts.get( 4 ).startsWith( "#" ) ) {
-						parts.set( 4, "#" + parts.get( 4 ) );
-						valueStr = String.join( ",", parts );
-					}
-				}
-
-				// parse value
-				try {
-					uiValue = UIDefaultsLoader.parseValue( key, valueStr );
-				} catch( RuntimeException ex ) {
-					UIDefaultsLoader.logParseError( Level.CONFIG, key, valueStr, ex );
-					return; // ignore invalid value
-				}
+		if( key.startsWith( "*." ) ) {
+			// wildcard
+			String tail = key.substring( 1 );
+
+			// because we can not iterate over the UI defaults keys while
+			// modifying UI defaults in the same loop, we have to copy the keys
+			if( defaultsKeysCache.size() != defaults.size() ) {
+				defaultsKeysCache.clear();
+				Enumeration<Object> e = defaults.keys();
+				while( e.hasMoreElements() )
+					defaultsKeysCache.add( e.nextElement() );
 			}
 
-			if( key.startsWith( "*." ) ) {
-				// wildcard
-				String tail = key.substring( 1 );
-
-				// because we can not iterate over the UI defaults keys while
-				// modifying UI defaults in the same loop, we have to copy the keys
-				if( defaultsKeysCache.size() != defaults.size() ) {
-					defaultsKeysCache.clear();
-					Enumeration<Object> e = defaults.keys();
-					while( e.hasMoreElements() )
-						defaultsKeysCache.add( e.nextElement() );
-				}
-
-				// replace all values in UI defaults that match the wildcard key
-				for( Object k : defaultsKeysCache ) {
-					if( k instanceof String ) {
-						// support replacing of mapped keys
-						// (e.g. set ComboBox.buttonEditableBackground to *.background
-						// because it is mapped from ComboBox.ArrowButton.background)
-						String km = uiKeyInverseMapping.getOrDefault( k, (String) k );
-						if( km.endsWith( tail ) && !((String)k).startsWith( "CheckBox.icon." ) )
-							defaults.put( k, uiValue );
-					}
+			// replace all values in UI defaults that match the wildcard key
+			for( Object k : defaultsKeysCache ) {
+				if( k instanceof String ) {
+					// support replacing of mapped keys
+					// (e.g. set ComboBox.buttonEditableBackground to *.background
+					// because it is mapped from ComboBox.ArrowButton.background)
+					String km = uiKeyInverseMapping.getOrDefault( k, (String) k );
+					if( km.endsWith( tail ) && !((String)k).startsWith( "CheckBox.icon." ) )
+						defaults.put( k, uiValue );
 				}
-			} else
-				defaults.put( key, uiValue );
-		}
-	}
-
-	private String fixColorIfValid( String newColorStr, String colorStr ) {
-		try {
-			// check whether it is valid
-			UIDefaultsLoader.parseColorRGBA( newColorStr );
-
-			return newColorStr;
-		} catch( IllegalArgumentException ex ) {
-			return colorStr;
-		}
-	}
-
-	private void applyColorPalette( UIDefaults defaults ) {
-		if( icons == null )
-			return;
-
-		Object palette = icons.get( "ColorPalette" );
-		if( !(palette instanceof Map) )
-			return;
-
-		@SuppressWarnings( "unchecked" )
-		Map<String, Object> colorPalette = (Map<String, Object>) palette;
-		for( Map.Entry<String, Object> e : colorPalette.entrySet() ) {
-			String key = e.getKey();
-			Object value = e.getValue();
-			if( key.startsWith( "Checkbox." ) || !(value instanceof String) )
-				continue;
-
-			if( dark )
-				key = StringUtils.removeTrailing( key, ".Dark" );
-
-			ColorUIResource color = toColor( (String) value );
-			if( color != null )
-				defaults.put( key, color );
-		}
-	}
-
-	private ColorUIResource toColor( String value ) {
-		// map named colors
-		ColorUIResource color = namedColors.get( value );
-
-		// parse color
-		return (color != null) ? color : UIDefaultsLoader.parseColor( value );
+			}
+		} else
+			defaults.put( key, uiValue );
 	}
 
 	/**
-	 * Because IDEA uses SVGs for check boxes and radio buttons, the colors for
-	 * this two components are specified in "icons > ColorPalette".
-	 * FlatLaf uses vector icons and expects colors for the two components in UI defaults.
+	 * Updates hover, pressed and focused check box colors.
 	 */
-	private void applyCheckBoxColors( UIDefaults defaults ) {
-		if( icons == null )
-			return;
-
-		Object palette = icons.get( "ColorPalette" );
-		if( !(palette instanceof Map) )
-			return;
-
-		boolean checkboxModified = false;
-		@SuppressWarnings( "unchecked" )
-		Map<String, Object> colorPalette = (Map<String, Object>) palette;
-		for( Map.Entry<String, Object> e : colorPalette.entrySet() ) {
-			String key = e.getKey();
-			Object value = e.getValue();
-			if( !key.startsWith( "Checkbox." ) || !(value instanceof String) )
-				continue;
-
-			if( key.equals( "Checkbox.Background.Default" ) ||
-				key.equals( "Checkbox.Foreground.Selected" ) )
-			{
-				// This two keys do not work correctly in IDEA because they
-				// map SVG color "#ffffff" to another color, but checkBox.svg and
-				// radio.svg (in package com.intellij.ide.ui.laf.icons.intellij)
-				// use "#fff". So use white to get same appearance as in IDEA.
-				value = "#ffffff";
-			}
-
-			String key2 = checkboxDuplicateColors.get( key );
-
-			if( dark )
-				key = StringUtils.removeTrailing( key, ".Dark" );
-
-			String newKey = checkboxKeyMapping.get( key );
-			if( newKey != null ) {
-				String checkBoxIconPrefix = "CheckBox.icon.";
-				if( !dark && newKey.startsWith( checkBoxIconPrefix ) )
-					newKey = "CheckBox.icon[filled].".concat( newKey.substring( checkBoxIconPrefix.length() ) );
-
-				ColorUIResource color = toColor( (String) value );
+	private void updateCheckBoxColors( UIDefaults defaults ) {
+		// for non-filled checkbox/radiobutton used in dark themes
+		defaults.remove( "CheckBox.icon.focusWidth" );
+		defaults.put( "CheckBox.icon.hoverBorderColor", defaults.get( "CheckBox.icon.focusedBorderColor" ) );
+
+		// for filled checkbox/radiobutton used in light themes
+		defaults.remove( "CheckBox.icon[filled].focusWidth" );
+		defaults.put( "CheckBox.icon[filled].hoverBorderColor", defaults.get( "CheckBox.icon[filled].focusedBorderColor" ) );
+		defaults.put( "CheckBox.icon[filled].selectedFocusedBackground", defaults.get( "CheckBox.icon[filled].selectedBackground" ) );
+
+		if( dark ) {
+			// IDEA Darcula checkBoxFocused.svg, checkBoxSelectedFocused.svg,
+			// radioFocused.svg and radioSelectedFocused.svg
+			// use opacity=".65" for the border
+			// --> add alpha to focused border colors
+			String[] focusedBorderColorKeys = new String[] {
+				"CheckBox.icon.focusedBorderColor",
+				"CheckBox.icon.selectedFocusedBorderColor",
+				"CheckBox.icon[filled].focusedBorderColor",
+				"CheckBox.icon[filled].selectedFocusedBorderColor",
+			};
+			for( String key : focusedBorderColorKeys ) {
+				Color color = defaults.getColor( key );
 				if( color != null ) {
-					defaults.put( newKey, color );
-
-					if( key2 != null ) {
-						// When IDEA replaces colors in SVGs it uses color values and not the keys
-						// from com.intellij.ide.ui.UITheme.colorPalette, but there are some keys that
-						// have same color value:
-						//   - Checkbox.Background.Default.Dark  has same color as  Checkbox.Background.Selected.Dark
-						//   - Checkbox.Border.Default.Dark      has same color as  Checkbox.Border.Selected.Dark
-						//   - Checkbox.Focus.Thin.Default.Dark  has same color as  Checkbox.Focus.Thin.Selected.Dark
-						//
-						// So if only e.g. Checkbox.Background.Default.Dark is specified in .theme.json,
-						// then this color is also used for Checkbox.Background.Selected.Dark.
-						//
-						// If Checkbox.Background.Default.Dark and Checkbox.Background.Selected.Dark
-						// are specified in .theme.json, then the later specified is used for both.
-						if( dark )
-							key2 = StringUtils.removeTrailing( key2, ".Dark" );
-
-						String newKey2 = checkboxKeyMapping.get( key2 );
-						if( newKey2 != null )
-							defaults.put( newKey2, color );
-					}
-				}
-
-				checkboxModified = true;
-			}
-		}
-
-		// update hover, pressed and focused colors
-		if( checkboxModified ) {
-			// for non-filled checkbox/radiobutton used in dark themes
-			defaults.remove( "CheckBox.icon.focusWidth" );
-			defaults.put( "CheckBox.icon.hoverBorderColor", defaults.get( "CheckBox.icon.focusedBorderColor" ) );
-
-			// for filled checkbox/radiobutton used in light themes
-			defaults.remove( "CheckBox.icon[filled].focusWidth" );
-			defaults.put( "CheckBox.icon[filled].hoverBorderColor", defaults.get( "CheckBox.icon[filled].focusedBorderColor" ) );
-			defaults.put( "CheckBox.icon[filled].selectedFocusedBackground", defaults.get( "CheckBox.icon[filled].selectedBackground" ) );
-
-			if( dark ) {
-				// IDEA Darcula checkBoxFocused.svg, checkBoxSelectedFocused.svg,
-				// radioFocused.svg and radioSelectedFocused.svg
-				// use opacity=".65" for the border
-				// --> add alpha to focused border colors
-				String[] focusedBorderColorKeys = new String[] {
-					"CheckBox.icon.focusedBorderColor",
-					"CheckBox.icon.selectedFocusedBorderColor",
-					"CheckBox.icon[filled].focusedBorderColor",
-					"CheckBox.icon[filled].selectedFocusedBorderColor",
-				};
-				for( String key : focusedBorderColorKeys ) {
-					Color color = defaults.getColor( key );
-					if( color != null ) {
-						defaults.put( key, new ColorUIResource( new Color(
-							(color.getRGB() & 0xffffff) | 0xa6000000, true ) ) );
-					}
+					defaults.put( key, new ColorUIResource( new Color(
+						(color.getRGB() & 0xffffff) | 0xa6000000, true ) ) );
 				}
 			}
 		}
@@ -609,6 +467,391 @@ public class IntelliJTheme
 			checkboxDuplicateColors.put( e.getValue(), e.getKey() );
 	}
 
+	//---- class ThemeHandler -------------------------------------------------
+
+	/**
+	 * Converts a .theme.json file into a {@link IntelliJThemeSnapshot} while parsing.
+	 * <p>
+	 * Does not create a JSON object tree. Nested "ui" objects are flattened into
+	 * dotted keys and converted (key mapping, named colors, value fixes) as they arrive.
+	 * Other objects (except "colors" and "icons > ColorPalette") are skipped.
+	 * <p>
+	 * If "colors" or "author" is specified after "ui" (unusual), the
+	 * "ui" values are converted at the end.
+	 * <p>
+	 * Values of duplicate keys are applied in the order they appear in the file.
+	 */
+	private static class ThemeHandler
+		extends JsonHandler<Object, Object>
+	{
+		private static final Scope IGNORE = new Scope( Scope.IGNORE, null );
+
+		private final IntelliJThemeSnapshot snapshot = new IntelliJThemeSnapshot();
+		private boolean isMaterialUILite;
+		private final Map<String, Object> colorPalette = new LinkedHashMap<>();
+
+		// flattened "ui" keys and values (value is a string or a list),
+		// which are necessary to convert again if "colors" or "author" is specified after "ui"
+		private final ArrayList<String> uiKeys = new ArrayList<>();
+		private final ArrayList<Object> uiValues = new ArrayList<>();
+		private boolean reconvert;
+
+		// parent of next object or array
+		private Object parent;
+		private String parentName;
+
+		// last value
+		private Object value;
+
+		IntelliJThemeSnapshot createSnapshot() {
+			if( snapshot.entries == null ) {
+				// named colors are used only if there is a "ui" object
+				snapshot.namedColors.clear();
+				return snapshot;
+			}
+
+			if( reconvert ) {
+				snapshot.entries.clear();
+				int size = uiKeys.size();
+				for( int i = 0; i < size; i++ ) {
+					Object value = uiValues.get( i );
+					if( !"".equals( value ) )
+						addEntry( convert( uiKeys.get( i ), value ) );
+				}
+			}
+
+			loadColorPalette();
+			loadCheckBoxColors();
+
+			return snapshot;
+		}
+
+		//---- JSON events ----
+
+		@Override
+		public Object startObject() {
+			if( parent instanceof Scope ) {
+				Scope scope = (Scope) parent;
+				switch( scope.kind ) {
+					case Scope.ROOT:
+						switch( parentName ) {
+							case "ui":
+								if( snapshot.entries == null )
+									snapshot.entries = new ArrayList<>();
+								return new Scope( Scope.UI, "" );
+
+							case "colors":	return new Scope( Scope.COLORS, null );
+							case "icons":	return new Scope( Scope.ICONS, null );
+							default:		return IGNORE;
+						}
+
+					case Scope.UI:
+						return new Scope( Scope.UI, scope.key( parentName ) );
+
+					case Scope.ICONS:
+						return parentName.equals( "ColorPalette" ) ? new Scope( Scope.PALETTE, null ) : IGNORE;
+
+					default:
+						return IGNORE;
+				}
+			}
+
+			// object in array in "ui"
+			if( parent != null )
+				return new LinkedHashMap<String, Object>();
+
+			return new Scope( Scope.ROOT, null );
+		}
+
+		@Override
+		public Object startArray() {
+			// arrays in "ui" are converted to strings
+			return ((parent instanceof Scope && ((Scope)parent).kind == Scope.UI) || parent instanceof List || parent instanceof Map)
+				? new ArrayList<Object>()
+				: IGNORE;
+		}
+
+		@Override
+		public void startArrayValue( Object array ) {
+			parent = array;
+			parentName = null;
+		}
+
+		@Override
+		public void startObjectValue( Object object, String name ) {
+			parent = object;
+			parentName = name;
+		}
+
+		@Override
+		public void endNull() {
+			value = "null";
+		}
+
+		@Override
+		public void endBoolean( boolean bool ) {
+			value = bool ? "true" : "false";
+		}
+
+		@Override
+		public void endString( String string ) {
+			value = string;
+		}
+
+		@Override
+		public void endNumber( String string ) {
+			value = string;
+		}
+
+		@Override
+		public void endArray( Object array ) {
+			value = array;
+		}
+
+		@Override
+		public void endObject( Object object ) {
+			value = object;
+		}
+
+		@Override
+		@SuppressWarnings( "unchecked" )
+		public void endArrayValue( Object array ) {
+			if( array instanceof List )
+				((List<Object>)array).add( value );
+		}
+
+		@Override
+		@SuppressWarnings( "unchecked" )
+		public void endObjectValue( Object object, String name ) {
+			if( object instanceof Map ) {
+				((Map<String, Object>)object).put( name, value );
+				return;
+			}
+
+			Scope scope = (Scope) object;
+			switch( scope.kind ) {
+				case Scope.ROOT:
+					if( !(value instanceof String) )
+						break;
+
+					switch( name ) {
+						case "name":	snapshot.name = (String) value; break;
+						case "dark":	snapshot.dark = Boolean.parseBoolean( (String) value ); break;
+						case "author":
+							snapshot.author = (String) value;
+							isMaterialUILite = snapshot.author.equals( "Mallowigi" );
+							reconvert |= !uiKeys.isEmpty();
+							break;
+					}
+					break;
+
+				case Scope.UI:
+					if( !(value instanceof Scope) )
+						addUIValue( scope.key( name ), value );
+					break;
+
+				case Scope.COLORS:
+					ColorUIResource color = (value instanceof String) ? UIDefaultsLoader.parseColor( (String) value ) : null;
+					if( color != null )
+						snapshot.namedColors.put( name, color );
+					else
+						snapshot.namedColors.remove( name );
+					reconvert |= !uiKeys.isEmpty();
+					break;
+
+				case Scope.PALETTE:
+					colorPalette.put( name, value );
+					break;
+			}
+		}
+
+		private void addUIValue( String key, Object value ) {
+			uiKeys.add( key );
+			uiValues.add( value );
+
+			if( "".equals( value ) )
+				return; // ignore empty value
+
+			snapshot.uiKeys.add( key );
+
+			if( !reconvert )
+				addEntry( convert( key, value ) );
+		}
+
+		private void addEntry( IntelliJThemeSnapshot.Entry entry ) {
+			if( entry != null )
+				snapshot.entries.add( entry );
+		}
+
+		//---- conversion ----
+
+		/**
+		 * http://www.jetbrains.org/intellij/sdk/docs/reference_guide/ui_themes/themes_customize.html#custom-ui-control-colors
+		 */
+		private IntelliJThemeSnapshot.Entry convert( String key, Object value ) {
+			// fix ComboBox size and Spinner border in all Material UI Lite themes
+			if( isMaterialUILite && (key.equals( "ComboBox.padding" ) || key.equals( "Spinner.border" )) )
+				return null; // ignore
+
+			// map keys
+			key = uiKeyMapping.getOrDefault( key, key );
+			if( key.isEmpty() )
+				return null; // ignore key
+
+			String valueStr = value.toString();
+
+			// map named colors
+			Object uiValue = snapshot.namedColors.get( valueStr );
+			if( uiValue != null )
+				return new IntelliJThemeSnapshot.Entry( key, null, uiValue );
+
+			// fix errors (missing '#' for colors)
+			if( !valueStr.startsWith( "#" ) && (key.endsWith( "ground" ) || key.endsWith( "Color" )) )
+				valueStr = fixColorIfValid( "#" + valueStr, valueStr );
+			else if( valueStr.startsWith( "##" ) )
+				valueStr = fixColorIfValid( valueStr.substring( 1 ), valueStr );
+			else if( key.endsWith( ".border" ) || key.endsWith( "Border" ) ) {
+				List<String> parts = StringUtils.split( valueStr, ',' );
+				if( parts.size() == 5 && !parts.get( 4 ).startsWith( "#" ) ) {
+					parts.set( 4, "#" + parts.get( 4 ) );
+					valueStr = String.join( ",", parts );
+				}
+			}
+
+			// value is parsed when applied
+			return new IntelliJThemeSnapshot.Entry( key, valueStr, null );
+		}
+
+		private String fixColorIfValid( String newColorStr, String colorStr ) {
+			try {
+				// check whether it is valid
+				UIDefaultsLoader.parseColorRGBA( newColorStr );
+
+				return newColorStr;
+			} catch( IllegalArgumentException ex ) {
+				return colorStr;
+			}
+		}
+
+		private void loadColorPalette() {
+			for( Map.Entry<String, Object> e : colorPalette.entrySet() ) {
+				String key = e.getKey();
+				Object value = e.getValue();
+				if( key.startsWith( "Checkbox." ) || !(value instanceof String) )
+					continue;
+
+				if( snapshot.dark )
+					key = StringUtils.removeTrailing( key, ".Dark" );
+
+				ColorUIResource color = toColor( (String) value );
+				if( color != null )
+					snapshot.paletteColors.put( key, color );
+			}
+		}
+
+		private ColorUIResource toColor( String value ) {
+			// map named colors
+			ColorUIResource color = snapshot.namedColors.get( value );
+
+			// parse color
+			return (color != null) ? color : UIDefaultsLoader.parseColor( value );
+		}
+
+		/**
+		 * Because IDEA uses SVGs for check boxes and radio buttons, the colors for
+		 * this two components are specified in "icons > ColorPalette".
+		 * FlatLaf uses vector icons and expects colors for the two components in UI defaults.
+		 */
+		private void loadCheckBoxColors() {
+			for( Map.Entry<String, Object> e : colorPalette.entrySet() ) {
+				String key = e.getKey();
+				Object value = e.getValue();
+				if( !key.startsWith( "Checkbox." ) || !(value instanceof String) )
+					continue;
+
+				if( key.equals( "Checkbox.Background.Default" ) ||
+					key.equals( "Checkbox.Foreground.Selected" ) )
+				{
+					// This two keys do not work correctly in IDEA because they
+					// map SVG color "#ffffff" to another color, but checkBox.svg and
+					// radio.svg (in package com.intellij.ide.ui.laf.icons.intellij)
+					// use "#fff". So use white to get same appearance as in IDEA.
+					value = "#ffffff";
+				}
+
+				String key2 = checkboxDuplicateColors.get( key );
+
+				if( snapshot.dark )
+					key = StringUtils.removeTrailing( key, ".Dark" );
+
+				String newKey = checkboxKeyMapping.get( key );
+				if( newKey != null ) {
+					String checkBoxIconPrefix = "CheckBox.icon.";
+					if( !snapshot.dark && newKey.startsWith( checkBoxIconPrefix ) )
+						newKey = "CheckBox.icon[filled].".concat( newKey.substring( checkBoxIconPrefix.length() ) );
+
+					ColorUIResource color = toColor( (String) value );
+					if( color != null ) {
+						snapshot.paletteColors.put( newKey, color );
+
+						if( key2 != null ) {
+							// When IDEA replaces colors in SVGs it uses color values and not the keys
+							// from com.intellij.ide.ui.UITheme.colorPalette, but there are some keys that
+							// have same color value:
+							//   - Checkbox.Background.Default.Dark  has same color as  Checkbox.Background.Selected.Dark
+							//   - Checkbox.Border.Default.Dark      has same color as  Checkbox.Border.Selected.Dark
+							//   - Checkbox.Focus.Thin.Default.Dark  has same color as  Checkbox.Focus.Thin.Selected.Dark
+							//
+							// So if only e.g. Checkbox.Background.Default.Dark is specified in .theme.json,
+							// then this color is also used for Checkbox.Background.Selected.Dark.
+							//
+							// If Checkbox.Background.Default.Dark and Checkbox.Background.Selected.Dark
+							// are specified in .theme.json, then the later specified is used for both.
+							if( snapshot.dark )
+								key2 = StringUtils.removeTrailing( key2, ".Dark" );
+
+							String newKey2 = checkboxKeyMapping.get( key2 );
+							if( newKey2 != null )
+								snapshot.paletteColors.put( newKey2, color );
+						}
+					}
+
+					snapshot.checkboxModified = true;
+				}
+			}
+		}
+	}
+
+	//---- class Scope --------------------------------------------------------
+
+	/**
+	 * A JSON object in a .theme.json file.
+	 */
+	private static class Scope
+	{
+		static final int ROOT = 0;
+		static final int UI = 1;
+		static final int COLORS = 2;
+		static final int ICONS = 3;
+		static final int PALETTE = 4;
+		static final int IGNORE = 5;
+
+		final int kind;
+
+		/** The dotted key of a (nested) "ui" object. */
+		final String prefix;
+
+		Scope( int kind, String prefix ) {
+			this.kind = kind;
+			this.prefix = prefix;
+		}
+
+		String key( String name ) {
+			return prefix.isEmpty() ? name : prefix + '.' + name;
+		}
+
+	}
+
 	//---- class ThemeLaf -----------------------------------------------------
 
 	public static class ThemeLaf
@@ -646,10 +889,14 @@ public class IntelliJTheme
 
 		@Override
 		protected ArrayList<Class<?>> getLafClassesForDefaultsLoading() {
+			return getLafClassesForDefaultsLoading( theme.dark );
+		}
+
+		static ArrayList<Class<?>> getLafClassesForDefaultsLoading( boolean dark ) {
 			ArrayList<Class<?>> lafClasses = new ArrayList<>();
 			lafClasses.add( FlatLaf.class );
-			lafClasses.add( theme.dark ? FlatDarkLaf.class : FlatLightLaf.class );
-			lafClasses.add( theme.dark ? FlatDarculaLaf.class : FlatIntelliJLaf.class );
+			lafClasses.add( dark ? FlatDarkLaf.class : FlatLightLaf.class );
+			lafClasses.add( dark ? FlatDarculaLaf.class : FlatIntelliJLaf.class );
 			lafClasses.add( ThemeLaf.class );
 			return lafClasses;
 		}
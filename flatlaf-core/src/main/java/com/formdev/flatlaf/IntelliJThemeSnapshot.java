@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.awt.Color;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.swing.plaf.ColorUIResource;
+import com.formdev.flatlaf.util.ColorFunctions;
+import com.formdev.flatlaf.util.ColorFunctions.ColorFunction;
+import com.formdev.flatlaf.util.DerivedColor;
+import com.formdev.flatlaf.util.StringUtils;
+
+/**
+ * The UI defaults of an IntelliJ theme, converted from a .theme.json file.
+ * <p>
+ * Contains the named colors and the flattened "ui" object of the theme,
+ * with keys already mapped to FlatLaf keys, values already fixed and named
+ * colors already replaced, and the check box colors from "icons > ColorPalette".
+ * Applying it to the UI defaults does not need the JSON data or the key mapping tables.
+ * <p>
+ * For the IntelliJ themes bundled in flatlaf-intellij-themes,
+ * precompiled snapshots are created at build time (see {@link #main(String[])}),
+ * which additionally contain the parsed values (e.g. colors or integers).
+ *
+ * @author agent
+ */
+class IntelliJThemeSnapshot
+{
+	private static final int MAGIC = 0x464c4954; // "FLIT"
+	private static final int VERSION = 1;
+
+	// entry flags
+	private static final byte ENTRY_PARSED = 0x1;
+	private static final byte ENTRY_UI_KEY = 0x2;
+
+	static final String JSON_FILE_EXTENSION = ".json";
+	static final String FILE_EXTENSION = ".defaults";
+
+	String name;
+	boolean dark;
+	String author;
+
+	/** Named colors (keys without "ColorPalette." prefix). */
+	final Map<String, ColorUIResource> namedColors = new LinkedHashMap<>();
+
+	/** UI entries in the order specified in the theme; or {@code null} if the theme has no "ui" object. */
+	List<Entry> entries;
+
+	/** The (not mapped) keys of all non-empty values in the "ui" object. */
+	final Set<String> uiKeys = new HashSet<>();
+
+	/** Colors from "icons > ColorPalette" (including check box colors). */
+	final Map<String, ColorUIResource> paletteColors = new LinkedHashMap<>();
+
+	/** Whether "icons > ColorPalette" contains check box colors. */
+	boolean checkboxModified;
+
+	/**
+	 * Loads a precompiled snapshot from the given input stream.
+	 * Returns {@code null} if the snapshot was created for another format version.
+	 */
+	static IntelliJThemeSnapshot load( InputStream in )
+		throws IOException
+	{
+		// read all bytes at once and use an unsynchronized input stream
+		// because reading single bytes from synchronized streams is slow
+		byte[] bytes;
+		try {
+			bytes = readAllBytes( in );
+		} finally {
+			in.close();
+		}
+
+		try( DataInputStream din = new DataInputStream( new BytesInputStream( bytes ) ) ) {
+			if( din.readInt() != MAGIC || din.readInt() != VERSION )
+				return null;
+
+			IntelliJThemeSnapshot snapshot = new IntelliJThemeSnapshot();
+			snapshot.name = din.readUTF();
+			snapshot.dark = din.readBoolean();
+			snapshot.author = din.readUTF();
+
+			int namedColorsCount = din.readInt();
+			for( int i = 0; i < namedColorsCount; i++ )
+				snapshot.namedColors.put( din.readUTF(), readColor( din ) );
+
+			int entriesCount = din.readInt();
+			if( entriesCount >= 0 ) {
+				snapshot.entries = new ArrayList<>( entriesCount );
+				for( int i = 0; i < entriesCount; i++ ) {
+					String key = din.readUTF();
+					byte flags = din.readByte();
+					if( (flags & ENTRY_UI_KEY) != 0 )
+						snapshot.uiKeys.add( key );
+					snapshot.entries.add( (flags & ENTRY_PARSED) != 0
+						? new Entry( key, null, UIDefaultsSnapshot.readValue( din ) )
+						: new Entry( key, din.readUTF(), null ) );
+				}
+			}
+
+			// UI keys that are not stored in entries
+			int uiKeysCount = din.readInt();
+			for( int i = 0; i < uiKeysCount; i++ )
+				snapshot.uiKeys.add( din.readUTF() );
+
+			int paletteColorsCount = din.readInt();
+			for( int i = 0; i < paletteColorsCount; i++ )
+				snapshot.paletteColors.put( din.readUTF(), readColor( din ) );
+
+			snapshot.checkboxModified = din.readBoolean();
+
+			return snapshot;
+		}
+	}
+
+	private static ColorUIResource readColor( DataInputStream in )
+		throws IOException
+	{
+		return new ColorUIResource( new Color( in.readInt(), true ) );
+	}
+
+	private static byte[] readAllBytes( InputStream in )
+		throws IOException
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream( 16 * 1024 );
+		byte[] buffer = new byte[8 * 1024];
+		int n;
+		while( (n = in.read( buffer )) >= 0 )
+			out.write( buffer, 0, n );
+		return out.toByteArray();
+	}
+
+	//---- build time ---------------------------------------------------------
+
+	/**
+	 * Creates precompiled snapshots for all .theme.json files in the given
+	 * input directory (and sub-directories).
+	 * Invoked at build time of flatlaf-intellij-themes.
+	 * <p>
+	 * The snapshot of {@code <name>.theme.json} is written to
+	 * {@code <name>.theme.defaults} in the same relative directory of the output directory.
+	 *
+	 * @param args the input directory and the output directory
+	 */
+	public static void main( String[] args )
+		throws IOException
+	{
+		File inputDir = new File( args[0] );
+		File outputDir = new File( args[1] );
+
+		writeAll( inputDir, outputDir );
+	}
+
+	private static void writeAll( File inputDir, File outputDir )
+		throws IOException
+	{
+		File[] files = inputDir.listFiles();
+		if( files == null )
+			return;
+
+		for( File file : files ) {
+			String fileName = file.getName();
+			if( file.isDirectory() )
+				writeAll( file, new File( outputDir, fileName ) );
+			else if( fileName.endsWith( ".theme" + JSON_FILE_EXTENSION ) ) {
+				IntelliJTheme theme = new IntelliJTheme( new FileInputStream( file ) );
+				File outputFile = new File( outputDir, StringUtils.removeTrailing( fileName, JSON_FILE_EXTENSION ) + FILE_EXTENSION );
+				outputFile.getParentFile().mkdirs();
+				theme.getSnapshot().write( outputFile );
+			}
+		}
+	}
+
+	private void write( File file )
+		throws IOException
+	{
+		try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( file ) ) ) ) {
+			out.writeInt( MAGIC );
+			out.writeInt( VERSION );
+
+			out.writeUTF( name );
+			out.writeBoolean( dark );
+			out.writeUTF( author );
+
+			out.writeInt( namedColors.size() );
+			for( Map.Entry<String, ColorUIResource> e : namedColors.entrySet() ) {
+				out.writeUTF( e.getKey() );
+				out.writeInt( e.getValue().getRGB() );
+			}
+
+			Set<String> remainingUIKeys = new TreeSet<>( uiKeys );
+			if( entries != null ) {
+				out.writeInt( entries.size() );
+				for( Entry entry : entries ) {
+					out.writeUTF( entry.key );
+
+					// parse value at build time if possible
+					Object value = entry.value;
+					boolean parsed = (entry.valueStr == null);
+					if( !parsed ) {
+						try {
+							value = UIDefaultsLoader.parseValue( entry.key, entry.valueStr );
+							parsed = isSupportedValue( value );
+						} catch( RuntimeException ex ) {
+							// ignore: parse at runtime, which also logs the error
+						}
+					}
+
+					// mapped keys are usually equal to UI keys
+					// --> store flag instead of storing key twice
+					boolean uiKey = uiKeys.contains( entry.key );
+					if( uiKey )
+						remainingUIKeys.remove( entry.key );
+
+					out.writeByte( (parsed ? ENTRY_PARSED : 0) | (uiKey ? ENTRY_UI_KEY : 0) );
+					if( parsed )
+						UIDefaultsSnapshot.writeValue( out, value );
+					else
+						out.writeUTF( entry.valueStr );
+				}
+			} else
+				out.writeInt( -1 );
+
+			// UI keys are sorted to create reproducible snapshots
+			out.writeInt( remainingUIKeys.size() );
+			for( String key : remainingUIKeys )
+				out.writeUTF( key );
+
+			out.writeInt( paletteColors.size() );
+			for( Map.Entry<String, ColorUIResource> e : paletteColors.entrySet() ) {
+				out.writeUTF( e.getKey() );
+				out.writeInt( e.getValue().getRGB() );
+			}
+
+			out.writeBoolean( checkboxModified );
+		}
+	}
+
+	/**
+	 * Only immutable values are stored in snapshots because parsed values
+	 * are shared by all UI defaults created from the same theme instance.
+	 */
+	private static boolean isSupportedValue( Object value ) {
+		if( value == null ||
+			value instanceof String ||
+			value instanceof Boolean ||
+			value instanceof Character ||
+			value instanceof Integer ||
+			value instanceof Float ||
+			value.getClass() == ColorUIResource.class )
+		  return true;
+
+		if( value.getClass() == DerivedColor.class ) {
+			for( ColorFunction function : ((DerivedColor)value).getFunctions() ) {
+				Class<?> functionClass = function.getClass();
+				if( functionClass != ColorFunctions.HSLIncreaseDecrease.class &&
+					functionClass != ColorFunctions.Fade.class )
+				  return false;
+			}
+			return true;
+		}
+
+		// e.g. insets, dimensions, borders or icons
+		return false;
+	}
+
+	//---- class BytesInputStream --------------------------------------------
+
+	/**
+	 * Same as {@link java.io.ByteArrayInputStream}, but not synchronized.
+	 */
+	private static class BytesInputStream
+		extends InputStream
+	{
+		private final byte[] buf;
+		private int pos;
+
+		BytesInputStream( byte[] buf ) {
+			this.buf = buf;
+		}
+
+		@Override
+		public int read() {
+			return (pos < buf.length) ? (buf[pos++] & 0xff) : -1;
+		}
+
+		@Override
+		public int read( byte[] b, int off, int len ) {
+			if( pos >= buf.length )
+				return -1;
+
+			int n = Math.min( len, buf.length - pos );
+			System.arraycopy( buf, pos, b, off, n );
+			pos += n;
+			return n;
+		}
+	}
+
+	//---- class Entry --------------------------------------------------------
+
+	static class Entry
+	{
+		/** The mapped key; may start with "*." for wildcard keys. */
+		final String key;
+
+		/** The (fixed) value string, which is parsed when applied; or {@code null} if already parsed. */
+		final String valueStr;
+
+		/** The parsed value (or named color) if {@link #valueStr} is {@code null}. */
+		final Object value;
+
+		Entry( String key, String valueStr, Object value ) {
+			this.key = key;
+			this.valueStr = valueStr;
+			this.value = value;
+		}
+	}
+}
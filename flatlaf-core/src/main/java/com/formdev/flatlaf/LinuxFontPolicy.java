@@ -105,8 +105,8 @@ class LinuxFontPolicy
 	}
 
 	private static double getGnomeFontScale() {
-		// do not scale font here if JRE scales
-		if( isSystemScaling() )
+		// do not scale font here if JRE scales or if running headless (no screen available)
+		if( GraphicsEnvironment.isHeadless() || isSystemScaling() )
 			return 96. / 72.;
 
 		// see class com.sun.java.swing.plaf.gtk.PangoFonts background information
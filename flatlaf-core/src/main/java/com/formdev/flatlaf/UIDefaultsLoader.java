@@ -23,6 +23,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,6 +34,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.logging.Level;
 import javax.swing.UIDefaults;
@@ -67,15 +70,21 @@ class UIDefaultsLoader
 {
 	private static final String TYPE_PREFIX = "{";
 	private static final String TYPE_PREFIX_END = "}";
-	private static final String VARIABLE_PREFIX = "@";
+	static final String VARIABLE_PREFIX = "@";
 	private static final String PROPERTY_PREFIX = "$";
 	private static final String OPTIONAL_PREFIX = "?";
-	private static final String WILDCARD_PREFIX = "*.";
+	static final String WILDCARD_PREFIX = "*.";
 
 	static void loadDefaultsFromProperties( Class<?> lookAndFeelClass, List<FlatDefaultsAddon> addons,
 		Properties additionalDefaults, boolean dark, UIDefaults defaults )
 	{
-		// determine classes in class hierarchy in reverse order
+		loadDefaultsFromProperties( getLafClasses( lookAndFeelClass ), addons, additionalDefaults, dark, defaults );
+	}
+
+	/**
+	 * Returns the classes in class hierarchy of the given LaF class in reverse order.
+	 */
+	static List<Class<?>> getLafClasses( Class<?> lookAndFeelClass ) {
 		ArrayList<Class<?>> lafClasses = new ArrayList<>();
 		for( Class<?> lafClass = lookAndFeelClass;
 			FlatLaf.class.isAssignableFrom( lafClass );
@@ -83,30 +92,31 @@ class UIDefaultsLoader
 		{
 			lafClasses.add( 0, lafClass );
 		}
-
-		loadDefaultsFromProperties( lafClasses, addons, additionalDefaults, dark, defaults );
+		return lafClasses;
 	}
 
 	static void loadDefaultsFromProperties( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
 		Properties additionalDefaults, boolean dark, UIDefaults defaults )
 	{
-		try {
-			// load core properties files
-			Properties properties = new Properties();
-			for( Class<?> lafClass : lafClasses ) {
-				String propertiesName = '/' + lafClass.getName().replace( '.', '/' ) + ".properties";
-				try( InputStream in = lafClass.getResourceAsStream( propertiesName ) ) {
-					if( in != null )
-						properties.load( in );
-				}
-			}
+		loadDefaultsFromProperties( lafClasses, addons, additionalDefaults, dark, defaults, null );
+	}
 
+	/**
+	 * Same as {@link #loadDefaultsFromProperties(List, List, Properties, boolean, UIDefaults)},
+	 * but uses custom properties files and snapshot that were already loaded
+	 * (usually in a background thread) with {@link #preload(List, boolean)}.
+	 */
+	static void loadDefaultsFromProperties( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
+		Properties additionalDefaults, boolean dark, UIDefaults defaults, Preloaded preloaded )
+	{
+		try {
 			// load properties from addons
+			Properties overrideProperties = new Properties();
 			for( FlatDefaultsAddon addon : addons ) {
 				for( Class<?> lafClass : lafClasses ) {
 					try( InputStream in = addon.getDefaults( lafClass ) ) {
 						if( in != null )
-							properties.load( in );
+							overrideProperties.load( in );
 					}
 				}
 			}
@@ -120,48 +130,38 @@ class UIDefaultsLoader
 			}
 
 			// load custom properties files (usually provides by applications)
-			List<Object> customDefaultsSources = FlatLaf.getCustomDefaultsSources();
-			int size = (customDefaultsSources != null) ? customDefaultsSources.size() : 0;
-			for( int i = 0; i < size; i++ ) {
-				Object source = customDefaultsSources.get( i );
-				if( source instanceof String && i + 1 < size ) {
-					// load from package in classloader
-					String packageName = (String) source;
-					ClassLoader classLoader = (ClassLoader) customDefaultsSources.get( ++i );
-
-					// use class loader also for instantiating classes specified in values
-					if( classLoader != null && !addonClassLoaders.contains( classLoader ) )
-						addonClassLoaders.add( classLoader );
-
-					packageName = packageName.replace( '.', '/' );
-					if( classLoader == null )
-						classLoader = FlatLaf.class.getClassLoader();
+			if( preloaded != null ) {
+				if( preloaded.exception != null )
+					throw preloaded.exception;
 
-					for( Class<?> lafClass : lafClasses ) {
-						String propertiesName = packageName + '/' + lafClass.getSimpleName() + ".properties";
-						try( InputStream in = classLoader.getResourceAsStream( propertiesName ) ) {
-							if( in != null )
-								properties.load( in );
-						}
-					}
-				} else if( source instanceof File ) {
-					// load from folder
-					File folder = (File) source;
-					for( Class<?> lafClass : lafClasses ) {
-						File propertiesFile = new File( folder, lafClass.getSimpleName() + ".properties" );
-						if( !propertiesFile.isFile() )
-							continue;
-
-						try( InputStream in = new FileInputStream( propertiesFile ) ) {
-							properties.load( in );
-						}
-					}
+				overrideProperties.putAll( preloaded.customProperties );
+				for( ClassLoader classLoader : preloaded.customClassLoaders ) {
+					if( !addonClassLoaders.contains( classLoader ) )
+						addonClassLoaders.add( classLoader );
 				}
-			}
+			} else
+				loadCustomDefaults( lafClasses, overrideProperties, addonClassLoaders );
 
 			// add additional defaults
 			if( additionalDefaults != null )
-				properties.putAll( additionalDefaults );
+				overrideProperties.putAll( additionalDefaults );
+
+			// use precompiled snapshot (created at build time) if there are no
+			// addons, custom properties files or additional defaults that modify the properties
+			UIDefaultsSnapshot snapshot = overrideProperties.isEmpty()
+				? (preloaded != null ? preloaded.snapshot : UIDefaultsSnapshot.load( lafClasses, dark ))
+				: null;
+
+			Properties properties;
+			if( snapshot != null )
+				properties = snapshot.properties;
+			else {
+				// load core properties files
+				properties = loadCoreProperties( lafClasses );
+
+				// addons and custom properties files override core properties
+				properties.putAll( overrideProperties );
+			}
 
 			// collect all platform specific keys (but do not modify properties)
 			ArrayList<String> platformSpecificKeys = new ArrayList<>();
@@ -180,11 +180,7 @@ class UIDefaultsLoader
 			// for current platform, but with platform prefix removed
 			if( !platformSpecificKeys.isEmpty() ) {
 				// handle light/dark specific properties
-				String lightOrDarkPrefix = dark ? "[dark]" : "[light]";
-				for( String key : platformSpecificKeys ) {
-					if( key.startsWith( lightOrDarkPrefix ) )
-						properties.put( key.substring( lightOrDarkPrefix.length() ), properties.remove( key ) );
-				}
+				applyLightOrDarkProperties( properties, platformSpecificKeys, dark );
 
 				// handle platform specific properties
 				String platformPrefix =
@@ -231,13 +227,30 @@ class UIDefaultsLoader
 				return resolveValue( value, propertiesGetter );
 			};
 
+			// values that were already parsed at build time
+			Map<String, Object> precompiledValues = (snapshot != null)
+				? snapshot.values
+				: Collections.emptyMap();
+
+			boolean lazyParsing = FlatSystemProperties.getBoolean( FlatSystemProperties.LAZY_UI_DEFAULTS, false );
+
 			// parse and add properties to UI defaults
 			for( Map.Entry<Object, Object> e : properties.entrySet() ) {
 				String key = (String) e.getKey();
 				if( key.startsWith( VARIABLE_PREFIX ) )
 					continue;
 
+				if( precompiledValues.containsKey( key ) ) {
+					defaults.put( key, precompiledValues.get( key ) );
+					continue;
+				}
+
 				String value = resolveValue( (String) e.getValue(), propertiesGetter );
+				if( lazyParsing && isLazyParsingSupported( value ) ) {
+					defaults.put( key, new LazyParsedValue( key, value, resolver, addonClassLoaders ) );
+					continue;
+				}
+
 				try {
 					defaults.put( key, parseValue( key, value, null, resolver, addonClassLoaders ) );
 				} catch( RuntimeException ex ) {
@@ -249,6 +262,140 @@ class UIDefaultsLoader
 		}
 	}
 
+	/**
+	 * Loads the properties files associated to the given LaF classes.
+	 */
+	static Properties loadCoreProperties( List<Class<?>> lafClasses )
+		throws IOException
+	{
+		Properties properties = new Properties();
+		for( Class<?> lafClass : lafClasses ) {
+			String propertiesName = '/' + lafClass.getName().replace( '.', '/' ) + ".properties";
+			try( InputStream in = lafClass.getResourceAsStream( propertiesName ) ) {
+				if( in != null )
+					properties.load( in );
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * Removes light and dark specific properties from the given properties
+	 * and re-adds only properties for the given light or dark mode,
+	 * but with prefix removed.
+	 */
+	static void applyLightOrDarkProperties( Properties properties, List<String> keys, boolean dark ) {
+		String lightOrDarkPrefix = dark ? "[dark]" : "[light]";
+		for( String key : keys ) {
+			if( key.startsWith( lightOrDarkPrefix ) )
+				properties.put( key.substring( lightOrDarkPrefix.length() ), properties.remove( key ) );
+		}
+	}
+
+	/**
+	 * Loads custom properties files (usually provides by applications)
+	 * registered with {@link FlatLaf#registerCustomDefaultsSource(String)}.
+	 * Class loaders used to load properties files are added to the given list.
+	 */
+	private static void loadCustomDefaults( List<Class<?>> lafClasses, Properties properties,
+		List<ClassLoader> classLoaders )
+			throws IOException
+	{
+		List<Object> customDefaultsSources = FlatLaf.getCustomDefaultsSources();
+		int size = (customDefaultsSources != null) ? customDefaultsSources.size() : 0;
+		for( int i = 0; i < size; i++ ) {
+			Object source = customDefaultsSources.get( i );
+			if( source instanceof String && i + 1 < size ) {
+				// load from package in classloader
+				String packageName = (String) source;
+				ClassLoader classLoader = (ClassLoader) customDefaultsSources.get( ++i );
+
+				// use class loader also for instantiating classes specified in values
+				if( classLoader != null && !classLoaders.contains( classLoader ) )
+					classLoaders.add( classLoader );
+
+				packageName = packageName.replace( '.', '/' );
+				if( classLoader == null )
+					classLoader = FlatLaf.class.getClassLoader();
+
+				for( Class<?> lafClass : lafClasses ) {
+					String propertiesName = packageName + '/' + lafClass.getSimpleName() + ".properties";
+					try( InputStream in = classLoader.getResourceAsStream( propertiesName ) ) {
+						if( in != null )
+							properties.load( in );
+					}
+				}
+			} else if( source instanceof File ) {
+				// load from folder
+				File folder = (File) source;
+				for( Class<?> lafClass : lafClasses ) {
+					File propertiesFile = new File( folder, lafClass.getSimpleName() + ".properties" );
+					if( !propertiesFile.isFile() )
+						continue;
+
+					try( InputStream in = new FileInputStream( propertiesFile ) ) {
+						properties.load( in );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Loads custom properties files and the precompiled snapshot, which is
+	 * I/O bound and independent of addons and can run in a background thread.
+	 * Pass the result to {@link #loadDefaultsFromProperties(List, List, Properties, boolean, UIDefaults, Preloaded)}.
+	 */
+	static Preloaded preload( List<Class<?>> lafClasses, boolean dark ) {
+		Preloaded preloaded = new Preloaded();
+		try {
+			loadCustomDefaults( lafClasses, preloaded.customProperties, preloaded.customClassLoaders );
+			preloaded.snapshot = UIDefaultsSnapshot.load( lafClasses, dark );
+		} catch( IOException ex ) {
+			preloaded.exception = ex;
+		}
+		return preloaded;
+	}
+
+	/**
+	 * Returns whether the given (resolved) value can be parsed lazily.
+	 * Values {@code null}, {@code false} and {@code true} are cheap to parse.
+	 * Values with explicit type (e.g. {@code {scaledInteger}10}) may result in
+	 * active values, which must be put directly into UI defaults.
+	 * Values using function {@code lazy()} are already lazy.
+	 */
+	private static boolean isLazyParsingSupported( String value ) {
+		switch( value ) {
+			case "null":
+			case "false":
+			case "true":
+				return false;
+		}
+		return !value.startsWith( TYPE_PREFIX ) && !value.startsWith( "lazy(" );
+	}
+
+	/**
+	 * Parses all lazily parsed values in the given UI defaults
+	 * (see {@link FlatSystemProperties#LAZY_UI_DEFAULTS}).
+	 * Used to prepare UI defaults in a background thread.
+	 * <p>
+	 * Values that are lazy values too (e.g. borders, icons and instances) are put
+	 * into the UI defaults, but not created, because they may use other UI defaults
+	 * (via {@link UIManager}) in their constructors, which are not yet installed.
+	 */
+	static void parseLazyValues( UIDefaults defaults ) {
+		// the key of a value may differ from the property key
+		// (e.g. for theme specific values of IntelliJ themes)
+		Map<Object, LazyParsedValue> values = new HashMap<>();
+		for( Map.Entry<Object, Object> e : defaults.entrySet() ) {
+			if( e.getValue() instanceof LazyParsedValue )
+				values.put( e.getKey(), (LazyParsedValue) e.getValue() );
+		}
+
+		for( Map.Entry<Object, LazyParsedValue> e : values.entrySet() )
+			defaults.put( e.getKey(), e.getValue().parse() );
+	}
+
 	static void logParseError( Level level, String key, String value, RuntimeException ex ) {
 		FlatLaf.LOG.log( level, "FlatLaf: Failed to parse: '" + key + '=' + value + '\'', ex );
 	}
@@ -285,7 +432,8 @@ class UIDefaultsLoader
 	enum ValueType { UNKNOWN, STRING, BOOLEAN, CHARACTER, INTEGER, FLOAT, BORDER, ICON, INSETS, DIMENSION, COLOR,
 		SCALEDINTEGER, SCALEDFLOAT, SCALEDINSETS, SCALEDDIMENSION, INSTANCE, CLASS, GRAYFILTER, NULL, LAZY }
 
-	private static ValueType[] tempResultValueType = new ValueType[1];
+	/** Cached constructors used for values of type {@code {instance}}, borders and icons. */
+	private static final Map<String, Constructor<?>> constructorCache = new ConcurrentHashMap<>();
 
 	static Object parseValue( String key, String value ) {
 		return parseValue( key, value, null, v -> v, Collections.emptyList() );
@@ -295,7 +443,7 @@ class UIDefaultsLoader
 		Function<String, String> resolver, List<ClassLoader> addonClassLoaders )
 	{
 		if( resultValueType == null )
-			resultValueType = tempResultValueType;
+			resultValueType = new ValueType[1];
 
 		value = value.trim();
 
@@ -436,14 +584,51 @@ class UIDefaultsLoader
 	private static Object parseInstance( String value, List<ClassLoader> addonClassLoaders ) {
 		return (LazyValue) t -> {
 			try {
-				return findClass( value, addonClassLoaders ).newInstance();
-			} catch( InstantiationException | IllegalAccessException | ClassNotFoundException ex ) {
+				return findConstructor( value, addonClassLoaders ).newInstance();
+			} catch( InvocationTargetException ex ) {
+				// rethrow exceptions thrown by constructor (same as Class.newInstance())
+				Throwable cause = ex.getCause();
+				if( cause instanceof RuntimeException )
+					throw (RuntimeException) cause;
+				if( cause instanceof Error )
+					throw (Error) cause;
+				FlatLaf.LOG.log( Level.SEVERE, "FlatLaf: Failed to instantiate '" + value + "'.", cause );
+				return null;
+			} catch( InstantiationException | IllegalAccessException |
+				NoSuchMethodException | ClassNotFoundException ex )
+			{
 				FlatLaf.LOG.log( Level.SEVERE, "FlatLaf: Failed to instantiate '" + value + "'.", ex );
 				return null;
 			}
 		};
 	}
 
+	/**
+	 * Returns the no-arg constructor of the given class.
+	 * Constructors of classes that are not loaded by addon class loaders are cached
+	 * to avoid repeated class lookups and reflection when instantiating
+	 * borders and icons (e.g. when switching themes).
+	 */
+	private static Constructor<?> findConstructor( String className, List<ClassLoader> addonClassLoaders )
+		throws NoSuchMethodException, ClassNotFoundException
+	{
+		Constructor<?> constructor = constructorCache.get( className );
+		if( constructor != null )
+			return constructor;
+
+		Class<?> cls;
+		try {
+			cls = Class.forName( className );
+		} catch( ClassNotFoundException ex ) {
+			// do not cache classes of addons to avoid class loader leaks
+			return findAddonClass( className, addonClassLoaders, ex ).getDeclaredConstructor();
+		}
+
+		constructor = cls.getDeclaredConstructor();
+		constructorCache.put( className, constructor );
+		return constructor;
+	}
+
 	private static Object parseClass( String value, List<ClassLoader> addonClassLoaders ) {
 		return (LazyValue) t -> {
 			try {
@@ -461,16 +646,23 @@ class UIDefaultsLoader
 		try {
 			return Class.forName( className );
 		} catch( ClassNotFoundException ex ) {
-			// search in addons class loaders
-			for( ClassLoader addonClassLoader : addonClassLoaders ) {
-				try {
-					return addonClassLoader.loadClass( className );
-				} catch( ClassNotFoundException ex2 ) {
-					// ignore
-				}
+			return findAddonClass( className, addonClassLoaders, ex );
+		}
+	}
+
+	private static Class<?> findAddonClass( String className, List<ClassLoader> addonClassLoaders,
+		ClassNotFoundException ex )
+			throws ClassNotFoundException
+	{
+		// search in addons class loaders
+		for( ClassLoader addonClassLoader : addonClassLoaders ) {
+			try {
+				return addonClassLoader.loadClass( className );
+			} catch( ClassNotFoundException ex2 ) {
+				// ignore
 			}
-			throw ex;
 		}
+		throw ex;
 	}
 
 	private static Insets parseInsets( String value ) {
@@ -921,4 +1113,55 @@ class UIDefaultsLoader
 			FlatLaf.LOG.log( Level.SEVERE, "FlatLaf: '" + uiKey + "' not found in UI defaults." );
 		return value;
 	}
+
+	//---- class LazyParsedValue ----------------------------------------------
+
+	/**
+	 * A lazy value that parses the given (resolved) value on first usage.
+	 * The properties are kept in memory (by the resolver) until the value is parsed.
+	 */
+	private static class LazyParsedValue
+		implements LazyValue
+	{
+		private final String key;
+		private final String value;
+		private final Function<String, String> resolver;
+		private final List<ClassLoader> addonClassLoaders;
+
+		LazyParsedValue( String key, String value,
+			Function<String, String> resolver, List<ClassLoader> addonClassLoaders )
+		{
+			this.key = key;
+			this.value = value;
+			this.resolver = resolver;
+			this.addonClassLoaders = addonClassLoaders;
+		}
+
+		@Override
+		public Object createValue( UIDefaults table ) {
+			Object v = parse();
+
+			// borders, icons and instances are lazy values too
+			return (v instanceof LazyValue) ? ((LazyValue)v).createValue( table ) : v;
+		}
+
+		Object parse() {
+			try {
+				return parseValue( key, value, null, resolver, addonClassLoaders );
+			} catch( RuntimeException ex ) {
+				logParseError( Level.SEVERE, key, value, ex );
+				return null;
+			}
+		}
+	}
+
+	//---- class Preloaded ----------------------------------------------------
+
+	static class Preloaded
+	{
+		final Properties customProperties = new Properties();
+		final List<ClassLoader> customClassLoaders = new ArrayList<>();
+		UIDefaultsSnapshot snapshot;
+		IOException exception;
+	}
 }
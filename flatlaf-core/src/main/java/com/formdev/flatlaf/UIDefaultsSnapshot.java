@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Insets;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import javax.swing.plaf.ColorUIResource;
+import javax.swing.plaf.DimensionUIResource;
+import javax.swing.plaf.InsetsUIResource;
+import com.formdev.flatlaf.util.ColorFunctions;
+import com.formdev.flatlaf.util.ColorFunctions.ColorFunction;
+import com.formdev.flatlaf.util.DerivedColor;
+
+/**
+ * A precompiled snapshot of the UI defaults loaded from the properties files
+ * of a bundled Flat LaF (e.g. {@code FlatLaf.properties} and {@code FlatLightLaf.properties}).
+ * <p>
+ * Snapshots are created at build time (see {@link #main(String[])}) and contain:
+ * <ul>
+ *   <li>all properties, with light or dark specific properties already applied
+ *   <li>the parsed values of all properties that do not depend on the current
+ *       platform (Windows, macOS or Linux), on wildcard replacements or on
+ *       other UI defaults; these values do not need to be resolved and parsed at runtime
+ * </ul>
+ * <p>
+ * {@link UIDefaultsLoader} uses a snapshot only if there are no addons,
+ * custom defaults sources or additional defaults that modify the properties.
+ * Otherwise the properties files are loaded and parsed.
+ *
+ * @author agent
+ */
+class UIDefaultsSnapshot
+{
+	private static final int MAGIC = 0x464c4453; // "FLDS"
+	private static final int VERSION = 1;
+
+	private static final String FILE_EXTENSION = ".defaults";
+
+	// value types
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte BOOLEAN = 2;
+	private static final byte CHARACTER = 3;
+	private static final byte INTEGER = 4;
+	private static final byte FLOAT = 5;
+	private static final byte COLOR = 6;
+	private static final byte DERIVED_COLOR = 7;
+	private static final byte INSETS = 8;
+	private static final byte DIMENSION = 9;
+
+	// color function types
+	private static final byte HSL_INCREASE_DECREASE = 1;
+	private static final byte FADE = 2;
+
+	/** All properties, with light or dark specific properties already applied. */
+	final Properties properties;
+
+	/** Parsed values, which do not need to be resolved and parsed at runtime. */
+	final Map<String, Object> values;
+
+	private UIDefaultsSnapshot( Properties properties, Map<String, Object> values ) {
+		this.properties = properties;
+		this.values = values;
+	}
+
+	/**
+	 * Loads the snapshot for the given LaF classes.
+	 * Returns {@code null} if there is no snapshot or it is outdated.
+	 */
+	static UIDefaultsSnapshot load( List<Class<?>> lafClasses, boolean dark ) {
+		Class<?> lafClass = lafClasses.get( lafClasses.size() - 1 );
+		InputStream in = lafClass.getResourceAsStream( '/' + resourceName( lafClasses, dark ) );
+		if( in == null )
+			return null;
+
+		try( DataInputStream din = new DataInputStream( new BufferedInputStream( in ) ) ) {
+			if( din.readInt() != MAGIC || din.readInt() != VERSION || din.readBoolean() != dark )
+				return null;
+
+			// check whether snapshot was created for same LaF classes
+			int classCount = din.readInt();
+			if( classCount != lafClasses.size() )
+				return null;
+			for( Class<?> cls : lafClasses ) {
+				if( !cls.getName().equals( din.readUTF() ) )
+					return null;
+			}
+
+			// read properties
+			Properties properties = new Properties();
+			int propertiesCount = din.readInt();
+			for( int i = 0; i < propertiesCount; i++ )
+				properties.put( din.readUTF(), din.readUTF() );
+
+			// read parsed values
+			int valuesCount = din.readInt();
+			Map<String, Object> values = new HashMap<>( valuesCount * 4 / 3 + 1 );
+			for( int i = 0; i < valuesCount; i++ )
+				values.put( din.readUTF(), readValue( din ) );
+
+			return new UIDefaultsSnapshot( properties, values );
+		} catch( IOException | RuntimeException ex ) {
+			FlatLaf.LOG.log( Level.WARNING, "FlatLaf: Failed to load UI defaults snapshot.", ex );
+			return null;
+		}
+	}
+
+	private static String resourceName( List<Class<?>> lafClasses, boolean dark ) {
+		Class<?> lafClass = lafClasses.get( lafClasses.size() - 1 );
+		return lafClass.getName().replace( '.', '/' ) + (dark ? "-dark" : "-light") + FILE_EXTENSION;
+	}
+
+	static Object readValue( DataInputStream in )
+		throws IOException
+	{
+		byte type = in.readByte();
+		switch( type ) {
+			case NULL:		return null;
+			case STRING:	return in.readUTF();
+			case BOOLEAN:	return in.readBoolean();
+			case CHARACTER:	return in.readChar();
+			case INTEGER:	return in.readInt();
+			case FLOAT:		return in.readFloat();
+			case COLOR:		return new ColorUIResource( new Color( in.readInt(), true ) );
+			case INSETS:	return new InsetsUIResource( in.readInt(), in.readInt(), in.readInt(), in.readInt() );
+			case DIMENSION:	return new DimensionUIResource( in.readInt(), in.readInt() );
+
+			case DERIVED_COLOR:
+				Color defaultColor = new Color( in.readInt(), true );
+				ColorFunction[] functions = new ColorFunction[in.readByte()];
+				for( int i = 0; i < functions.length; i++ ) {
+					byte functionType = in.readByte();
+					switch( functionType ) {
+						case HSL_INCREASE_DECREASE:
+							functions[i] = new ColorFunctions.HSLIncreaseDecrease( in.readByte(),
+								in.readBoolean(), in.readFloat(), in.readBoolean(), in.readBoolean() );
+							break;
+
+						case FADE:
+							functions[i] = new ColorFunctions.Fade( in.readFloat() );
+							break;
+
+						default:
+							throw new IOException( "unknown color function type " + functionType );
+					}
+				}
+				return new DerivedColor( defaultColor, functions );
+
+			default:
+				throw new IOException( "unknown value type " + type );
+		}
+	}
+
+	//---- build time ---------------------------------------------------------
+
+	/**
+	 * Creates snapshots for all bundled Flat LaFs.
+	 * Invoked at build time.
+	 *
+	 * @param args the output directory
+	 */
+	public static void main( String[] args )
+		throws IOException
+	{
+		File outputDir = new File( args[0] );
+
+		Class<?>[] lafClasses = { FlatLightLaf.class, FlatDarkLaf.class, FlatIntelliJLaf.class, FlatDarculaLaf.class };
+		for( Class<?> lafClass : lafClasses ) {
+			boolean dark = FlatDarkLaf.class.isAssignableFrom( lafClass );
+			write( UIDefaultsLoader.getLafClasses( lafClass ), dark, outputDir );
+		}
+
+		// IntelliJ themes
+		write( IntelliJTheme.ThemeLaf.getLafClassesForDefaultsLoading( false ), false, outputDir );
+		write( IntelliJTheme.ThemeLaf.getLafClassesForDefaultsLoading( true ), true, outputDir );
+	}
+
+	private static void write( List<Class<?>> lafClasses, boolean dark, File outputDir )
+		throws IOException
+	{
+		Properties properties = UIDefaultsLoader.loadCoreProperties( lafClasses );
+
+		// apply light or dark specific properties and
+		// collect keys that may be overridden by platform specific properties
+		List<String> lightOrDarkKeys = new ArrayList<>();
+		Set<String> platformOverriddenKeys = new HashSet<>();
+		for( Object okey : properties.keySet() ) {
+			String key = (String) okey;
+			if( key.startsWith( "[light]" ) || key.startsWith( "[dark]" ) )
+				lightOrDarkKeys.add( key );
+			else if( isPlatformSpecificKey( key ) )
+				platformOverriddenKeys.add( key.substring( key.indexOf( ']' ) + 1 ) );
+		}
+		UIDefaultsLoader.applyLightOrDarkProperties( properties, lightOrDarkKeys, dark );
+		for( String key : lightOrDarkKeys )
+			properties.remove( key );
+
+		// parse values that do not depend on platform specific properties
+		// or on wildcard replacements (which are applied to UI defaults keys at runtime)
+		Map<String, Object> values = new TreeMap<>();
+		for( Object okey : properties.keySet() ) {
+			String key = (String) okey;
+			if( key.startsWith( UIDefaultsLoader.VARIABLE_PREFIX ) ||
+				key.startsWith( UIDefaultsLoader.WILDCARD_PREFIX ) ||
+				isPlatformSpecificKey( key ) ||
+				platformOverriddenKeys.contains( key ) )
+			  continue;
+
+			// remember referenced properties and variables
+			boolean[] dependsOnRuntime = new boolean[1];
+			Function<String, String> propertiesGetter = k -> {
+				String v = properties.getProperty( k );
+				if( v == null || platformOverriddenKeys.contains( k ) )
+					dependsOnRuntime[0] = true;
+				return v;
+			};
+			Function<String, String> resolver = v -> {
+				return UIDefaultsLoader.resolveValue( v, propertiesGetter );
+			};
+
+			Object value;
+			try {
+				String valueStr = UIDefaultsLoader.resolveValue( properties.getProperty( key ), propertiesGetter );
+				value = UIDefaultsLoader.parseValue( key, valueStr, null, resolver, Collections.emptyList() );
+			} catch( RuntimeException ex ) {
+				// ignore: parse at runtime, which also logs the error
+				continue;
+			}
+
+			if( !dependsOnRuntime[0] && isSupportedValue( value ) )
+				values.put( key, value );
+		}
+
+		// write snapshot
+		File file = new File( outputDir, resourceName( lafClasses, dark ) );
+		file.getParentFile().mkdirs();
+		try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( file ) ) ) ) {
+			out.writeInt( MAGIC );
+			out.writeInt( VERSION );
+			out.writeBoolean( dark );
+
+			out.writeInt( lafClasses.size() );
+			for( Class<?> lafClass : lafClasses )
+				out.writeUTF( lafClass.getName() );
+
+			// sort properties to create reproducible snapshots
+			TreeMap<Object, Object> sortedProperties = new TreeMap<>( properties );
+			out.writeInt( sortedProperties.size() );
+			for( Map.Entry<Object, Object> e : sortedProperties.entrySet() ) {
+				out.writeUTF( (String) e.getKey() );
+				out.writeUTF( (String) e.getValue() );
+			}
+
+			out.writeInt( values.size() );
+			for( Map.Entry<String, Object> e : values.entrySet() ) {
+				out.writeUTF( e.getKey() );
+				writeValue( out, e.getValue() );
+			}
+		}
+	}
+
+	private static boolean isPlatformSpecificKey( String key ) {
+		return key.startsWith( "[win]" ) || key.startsWith( "[mac]" ) || key.startsWith( "[linux]" );
+	}
+
+	private static boolean isSupportedValue( Object value ) {
+		if( value == null ||
+			value instanceof String ||
+			value instanceof Boolean ||
+			value instanceof Character ||
+			value instanceof Integer ||
+			value instanceof Float )
+		  return true;
+
+		Class<?> cls = value.getClass();
+		if( cls == ColorUIResource.class || cls == InsetsUIResource.class || cls == DimensionUIResource.class )
+			return true;
+
+		if( cls == DerivedColor.class ) {
+			for( ColorFunction function : ((DerivedColor)value).getFunctions() ) {
+				Class<?> functionClass = function.getClass();
+				if( functionClass != ColorFunctions.HSLIncreaseDecrease.class &&
+					functionClass != ColorFunctions.Fade.class )
+				  return false;
+			}
+			return true;
+		}
+
+		// e.g. lazy or active values
+		return false;
+	}
+
+	static void writeValue( DataOutputStream out, Object value )
+		throws IOException
+	{
+		if( value == null )
+			out.writeByte( NULL );
+		else if( value instanceof String ) {
+			out.writeByte( STRING );
+			out.writeUTF( (String) value );
+		} else if( value instanceof Boolean ) {
+			out.writeByte( BOOLEAN );
+			out.writeBoolean( (Boolean) value );
+		} else if( value instanceof Character ) {
+			out.writeByte( CHARACTER );
+			out.writeChar( (Character) value );
+		} else if( value instanceof Integer ) {
+			out.writeByte( INTEGER );
+			out.writeInt( (Integer) value );
+		} else if( value instanceof Float ) {
+			out.writeByte( FLOAT );
+			out.writeFloat( (Float) value );
+		} else if( value instanceof DerivedColor ) {
+			DerivedColor color = (DerivedColor) value;
+			ColorFunction[] functions = color.getFunctions();
+			out.writeByte( DERIVED_COLOR );
+			out.writeInt( color.getRGB() );
+			out.writeByte( functions.length );
+			for( ColorFunction function : functions ) {
+				if( function instanceof ColorFunctions.HSLIncreaseDecrease ) {
+					ColorFunctions.HSLIncreaseDecrease f = (ColorFunctions.HSLIncreaseDecrease) function;
+					out.writeByte( HSL_INCREASE_DECREASE );
+					out.writeByte( f.hslIndex );
+					out.writeBoolean( f.increase );
+					out.writeFloat( f.amount );
+					out.writeBoolean( f.relative );
+					out.writeBoolean( f.autoInverse );
+				} else {
+					out.writeByte( FADE );
+					out.writeFloat( ((ColorFunctions.Fade)function).amount );
+				}
+			}
+		} else if( value instanceof Color ) {
+			out.writeByte( COLOR );
+			out.writeInt( ((Color)value).getRGB() );
+		} else if( value instanceof Insets ) {
+			Insets insets = (Insets) value;
+			out.writeByte( INSETS );
+			out.writeInt( insets.top );
+			out.writeInt( insets.left );
+			out.writeInt( insets.bottom );
+			out.writeInt( insets.right );
+		} else if( value instanceof Dimension ) {
+			Dimension dimension = (Dimension) value;
+			out.writeByte( DIMENSION );
+			out.writeInt( dimension.width );
+			out.writeInt( dimension.height );
+		} else
+			throw new IllegalArgumentException( "unsupported value type " + value.getClass().getName() );
+	}
+}
@@ -17,13 +17,21 @@
 package com.formdev.flatlaf.icons;
 
 import static com.formdev.flatlaf.util.UIScale.*;
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Composite;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import javax.swing.Icon;
 import javax.swing.plaf.UIResource;
 import com.formdev.flatlaf.ui.FlatUIUtils;
+import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.PaintStatistics;
+import com.formdev.flatlaf.util.PaintStatistics.PaintMethod;
+import com.formdev.flatlaf.util.RasterCache;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -31,12 +39,18 @@ import com.formdev.flatlaf.util.UIScale;
  * a scaled graphics context for icon painting.
  *
  * Subclasses do not need to scale icon painting.
+ * <p>
+ * Optionally, icons can be painted using cached images.
+ * See {@link #setRasterCacheEnabled(boolean)}.
  *
  * @author Karl Tauber
  */
 public abstract class FlatAbstractIcon
 	implements Icon, UIResource
 {
+	private static final int RASTER_CACHE_SIZE = 500;
+	private static final RasterCache<RasterCacheKey> rasterCache = new RasterCache<>( RASTER_CACHE_SIZE );
+
 	protected final int width;
 	protected final int height;
 	protected final Color color;
@@ -49,28 +63,175 @@ public abstract class FlatAbstractIcon
 
 	@Override
 	public void paintIcon( Component c, Graphics g, int x, int y ) {
-		Graphics2D g2 = (Graphics2D) g.create();
+		long startTime = PaintStatistics.begin();
 		try {
-			FlatUIUtils.setRenderingHints( g2 );
+			Object state;
+			if( rasterCache.isEnabled() && c != null &&
+				isRasterCacheSupported() &&
+				canUseRasterCache( (Graphics2D) g ) &&
+				(state = getRasterCacheState( c )) != null )
+			{
+				paintCached( c, (Graphics2D) g, x, y, state );
+				return;
+			}
 
-			// for testing
-//			g2.setColor( Color.blue );
-//			g2.drawRect( x, y, getIconWidth() - 1, getIconHeight() - 1 );
+			Graphics2D g2 = (Graphics2D) g.create();
+			try {
+				paintIconAt( c, g2, x, y );
+			} finally {
+				g2.dispose();
+			}
+		} finally {
+			PaintStatistics.end( startTime, this, PaintMethod.PAINT_ICON, getIconWidth(), getIconHeight() );
+		}
+	}
 
-			g2.translate( x, y );
-			UIScale.scaleGraphics( g2 );
+	private void paintIconAt( Component c, Graphics2D g2, int x, int y ) {
+		FlatUIUtils.setRenderingHints( g2 );
 
-			if( color != null )
-				g2.setColor( color );
+		// for testing
+//		g2.setColor( Color.blue );
+//		g2.drawRect( x, y, getIconWidth() - 1, getIconHeight() - 1 );
 
-			paintIcon( c, g2 );
-		} finally {
-			g2.dispose();
-		}
+		g2.translate( x, y );
+		UIScale.scaleGraphics( g2 );
+
+		if( color != null )
+			g2.setColor( color );
+
+		paintIcon( c, g2 );
 	}
 
 	protected abstract void paintIcon( Component c, Graphics2D g2 );
 
+	/**
+	 * Returns the visual state of the icon for the given component, which is used
+	 * (together with the icon and the scale factor) as key for the raster cache.
+	 * The state must contain everything that {@link #paintIcon(Component, Graphics2D)}
+	 * reads from the component (e.g. selected state and colors computed from
+	 * enabled, focused, hover or pressed states) and must implement
+	 * {@code equals()} and {@code hashCode()}.
+	 * <p>
+	 * Returns {@code null} if the icon can not be painted using the raster cache,
+	 * which is the default.
+	 * Icons that do not depend on component state return any constant non-null value.
+	 * <p>
+	 * Only invoked if {@link #isRasterCacheSupported()} returns {@code true}.
+	 */
+	protected Object getRasterCacheState( Component c ) {
+		return null;
+	}
+
+	/**
+	 * Returns whether this icon can be painted using the raster cache.
+	 * Subclasses that support the raster cache override this method to return {@code true}
+	 * and also override {@link #getRasterCacheState(Component)}.
+	 * <p>
+	 * Subclasses of such icons that paint using additional state, which is not part
+	 * of the inherited state, must override this method to return {@code false}
+	 * (or override {@link #getRasterCacheState(Component)} to include the additional state).
+	 * <p>
+	 * Default is {@code false}.
+	 */
+	protected boolean isRasterCacheSupported() {
+		return false;
+	}
+
+	/**
+	 * Returns the number of (unscaled) pixels that the icon paints outside of
+	 * its bounds (e.g. focus border). Used to compute the size of cached images.
+	 */
+	protected int getRasterCacheMargin() {
+		return 0;
+	}
+
+	/**
+	 * Raster cache can be used only if the graphics context is not rotated or sheared
+	 * and if the composite does not make painting translucent.
+	 */
+	private static boolean canUseRasterCache( Graphics2D g ) {
+		AffineTransform t = g.getTransform();
+		Composite composite = g.getComposite();
+		return (t.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) == 0 &&
+			t.getScaleX() > 0 && t.getScaleY() > 0 &&
+			composite instanceof AlphaComposite &&
+			((AlphaComposite)composite).getRule() == AlphaComposite.SRC_OVER &&
+			((AlphaComposite)composite).getAlpha() == 1f;
+	}
+
+	/**
+	 * Paints the icon using an image from the raster cache.
+	 * The image is rendered in device pixels (at system scale factor)
+	 * and painted at scale 1x.
+	 */
+	private void paintCached( Component c, Graphics2D g, int x, int y, Object state ) {
+		int iconWidth = getIconWidth();
+		int iconHeight = getIconHeight();
+		HiDPIUtils.paintAtScale1x( g, x, y, iconWidth, iconHeight,
+			(g2, x2, y2, width2, height2, scaleFactor) -> {
+				// use own image size (instead of width2 and height2, which are truncated)
+				// to avoid clipping at fractional scale factors;
+				// margin is rounded up to whole device pixels so that the icon
+				// is painted at the same device pixel position as without cache
+				int margin2 = (int) Math.ceil( scale( getRasterCacheMargin() ) * scaleFactor );
+				int imageWidth = (int) Math.ceil( iconWidth * scaleFactor ) + (margin2 * 2);
+				int imageHeight = (int) Math.ceil( iconHeight * scaleFactor ) + (margin2 * 2);
+				if( imageWidth <= 0 || imageHeight <= 0 )
+					return;
+
+				RasterCacheKey key = new RasterCacheKey( this, state, imageWidth, imageHeight,
+					scaleFactor, UIScale.getUserScaleFactor() );
+				BufferedImage image = rasterCache.get( key );
+				if( image == null ) {
+					image = new BufferedImage( imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB_PRE );
+					Graphics2D ig = image.createGraphics();
+					try {
+						ig.translate( margin2, margin2 );
+						ig.scale( scaleFactor, scaleFactor );
+						paintIconAt( c, ig, 0, 0 );
+					} finally {
+						ig.dispose();
+					}
+					rasterCache.put( key, image );
+				}
+
+				g2.drawImage( image, x2 - margin2, y2 - margin2, null );
+			} );
+	}
+
+	/**
+	 * Returns whether the raster cache is enabled.
+	 *
+	 * @see #setRasterCacheEnabled(boolean)
+	 */
+	public static boolean isRasterCacheEnabled() {
+		return rasterCache.isEnabled();
+	}
+
+	/**
+	 * Enables or disables the raster cache. Default is disabled.
+	 * <p>
+	 * If enabled, icons that support the raster cache (e.g. check box, radio button,
+	 * tree and menu arrow icons) are rendered only once into an image,
+	 * which is cached and used for further painting of the same icon with same
+	 * visual state (see {@link #getRasterCacheState(Component)}) and scale factor.
+	 * This improves painting performance of many icons (e.g. check boxes in tables).
+	 * The least recently used images are removed from the cache if the cache exceeds
+	 * {@value #RASTER_CACHE_SIZE} images.
+	 * The cache is cleared when the look and feel changes or if colors
+	 * are modified in the UI defaults.
+	 */
+	public static void setRasterCacheEnabled( boolean enabled ) {
+		rasterCache.setEnabled( enabled );
+	}
+
+	/**
+	 * Removes all images from the raster cache.
+	 */
+	public static void clearRasterCache() {
+		rasterCache.clear();
+	}
+
 	@Override
 	public int getIconWidth() {
 		return scale( width );
@@ -80,4 +241,52 @@ public abstract class FlatAbstractIcon
 	public int getIconHeight() {
 		return scale( height );
 	}
+
+	//---- class RasterCacheKey -----------------------------------------------
+
+	private static class RasterCacheKey
+	{
+		private final FlatAbstractIcon icon;
+		private final Object state;
+		private final int width;
+		private final int height;
+		private final double scaleFactor;
+		private final float userScaleFactor;
+
+		RasterCacheKey( FlatAbstractIcon icon, Object state, int width, int height,
+			double scaleFactor, float userScaleFactor )
+		{
+			this.icon = icon;
+			this.state = state;
+			this.width = width;
+			this.height = height;
+			this.scaleFactor = scaleFactor;
+			this.userScaleFactor = userScaleFactor;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof RasterCacheKey) )
+				return false;
+
+			RasterCacheKey key = (RasterCacheKey) obj;
+			return icon == key.icon &&
+				state.equals( key.state ) &&
+				width == key.width &&
+				height == key.height &&
+				scaleFactor == key.scaleFactor &&
+				userScaleFactor == key.userScaleFactor;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode( icon );
+			result = 31 * result + state.hashCode();
+			result = 31 * result + width;
+			result = 31 * result + height;
+			result = 31 * result + Double.hashCode( scaleFactor );
+			result = 31 * result + Float.floatToIntBits( userScaleFactor );
+			return result;
+		}
+	}
 }
@@ -23,6 +23,7 @@ import java.awt.Component;
 import java.awt.Graphics2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.RoundRectangle2D;
+import java.util.Arrays;
 import javax.swing.AbstractButton;
 import javax.swing.JComponent;
 import javax.swing.UIManager;
@@ -160,6 +161,30 @@ public class FlatCheckBoxIcon
 		}
 	}
 
+	@Override
+	protected boolean isRasterCacheSupported() {
+		return true;
+	}
+
+	@Override
+	protected Object getRasterCacheState( Component c ) {
+		boolean indeterminate = isIndeterminate( c );
+		boolean selected = indeterminate || isSelected( c );
+		boolean isFocused = FlatUIUtils.isPermanentFocusOwner( c );
+
+		// all colors used in paintIcon()
+		return Arrays.asList( indeterminate, selected,
+			(isFocused && focusWidth > 0 && FlatButtonUI.isFocusPainted( c )) ? getFocusColor( c ) : null,
+			getBorderColor( c, selected ),
+			FlatUIUtils.deriveColor( getBackground( c, selected ), selected ? selectedBackground : background ),
+			(selected || indeterminate) ? getCheckmarkColor( c, selected, isFocused ) : null );
+	}
+
+	@Override
+	protected int getRasterCacheMargin() {
+		return focusWidth;
+	}
+
 	protected void paintFocusBorder( Component c, Graphics2D g ) {
 		// the outline focus border is painted outside of the icon
 		int wh = ICON_SIZE - 1 + (focusWidth * 2);
@@ -21,6 +21,7 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Graphics2D;
 import java.awt.geom.Path2D;
+import java.util.Arrays;
 import javax.swing.AbstractButton;
 import javax.swing.JMenuItem;
 import javax.swing.UIManager;
@@ -57,6 +58,17 @@ public class FlatCheckBoxMenuItemIcon
 		}
 	}
 
+	@Override
+	protected boolean isRasterCacheSupported() {
+		return true;
+	}
+
+	@Override
+	protected Object getRasterCacheState( Component c ) {
+		boolean selected = (c instanceof AbstractButton) && ((AbstractButton)c).isSelected();
+		return Arrays.asList( selected, selected ? getCheckmarkColor( c ) : null );
+	}
+
 	protected void paintCheckmark( Graphics2D g2 ) {
 		Path2D.Float path = new Path2D.Float();
 		path.moveTo( 4.5f, 7.5f );
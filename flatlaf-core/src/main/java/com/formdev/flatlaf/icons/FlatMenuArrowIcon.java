@@ -21,6 +21,7 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Graphics2D;
 import java.awt.geom.Path2D;
+import java.util.Arrays;
 import javax.swing.JMenu;
 import javax.swing.UIManager;
 import com.formdev.flatlaf.ui.FlatUIUtils;
@@ -65,6 +66,22 @@ public class FlatMenuArrowIcon
 		}
 	}
 
+	@Override
+	protected boolean isRasterCacheSupported() {
+		return true;
+	}
+
+	@Override
+	protected Object getRasterCacheState( Component c ) {
+		return Arrays.asList( c.getComponentOrientation().isLeftToRight(), getArrowColor( c ) );
+	}
+
+	@Override
+	protected int getRasterCacheMargin() {
+		// antialiased arrow slightly exceeds icon bounds
+		return 1;
+	}
+
 	protected Color getArrowColor( Component c ) {
 		if( c instanceof JMenu && ((JMenu)c).isSelected() && !isUnderlineSelection() )
 			return selectionForeground;
@@ -45,4 +45,15 @@ public class FlatTreeClosedIcon
 
 		g.fill( FlatUIUtils.createPath( 1,2, 6,2, 8,4, 15,4, 15,13, 1,13 ) );
 	}
+
+	@Override
+	protected boolean isRasterCacheSupported() {
+		return true;
+	}
+
+	@Override
+	protected Object getRasterCacheState( Component c ) {
+		// does not depend on component state
+		return Boolean.TRUE;
+	}
 }
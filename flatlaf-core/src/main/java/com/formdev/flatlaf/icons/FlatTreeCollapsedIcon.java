@@ -57,6 +57,16 @@ public class FlatTreeCollapsedIcon
 		}
 	}
 
+	@Override
+	protected boolean isRasterCacheSupported() {
+		return true;
+	}
+
+	@Override
+	protected Object getRasterCacheState( Component c ) {
+		return c.getComponentOrientation().isLeftToRight();
+	}
+
 	void rotate( Component c, Graphics2D g ) {
 		if( !c.getComponentOrientation().isLeftToRight() )
 			g.rotate( Math.toRadians( 180 ), width / 2., height / 2. );
@@ -49,4 +49,15 @@ public class FlatTreeLeafIcon
 		g.fill( FlatUIUtils.createPath( 8,6, 8,1, 13,1, 13,15, 3,15, 3,6 ) );
 		g.fill( FlatUIUtils.createPath( 3,5, 7,5, 7,1 ) );
 	}
+
+	@Override
+	protected boolean isRasterCacheSupported() {
+		return true;
+	}
+
+	@Override
+	protected Object getRasterCacheState( Component c ) {
+		// does not depend on component state
+		return Boolean.TRUE;
+	}
 }
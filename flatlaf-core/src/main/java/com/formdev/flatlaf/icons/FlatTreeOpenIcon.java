@@ -49,4 +49,15 @@ public class FlatTreeOpenIcon
 		g.fill( FlatUIUtils.createPath( 1,2, 6,2, 8,4, 14,4, 14,6, 3.5,6, 1,11 ) );
 		g.fill( FlatUIUtils.createPath( 4,7, 16,7, 13,13, 1,13 ) );
 	}
+
+	@Override
+	protected boolean isRasterCacheSupported() {
+		return true;
+	}
+
+	@Override
+	protected Object getRasterCacheState( Component c ) {
+		// does not depend on component state
+		return Boolean.TRUE;
+	}
 }
@@ -55,7 +55,7 @@ package com.formdev.flatlaf.json;
  *          The type of handlers used for JSON objects
  * @see JsonParser
  */
-abstract class JsonHandler<A, O> {
+public abstract class JsonHandler<A, O> {
 
   JsonParser parser;
 
@@ -32,7 +32,7 @@ import java.io.StringReader;
 /**
  * A streaming parser for JSON text. The parser reports all events to a given handler.
  */
-class JsonParser {
+public class JsonParser {
 
   private static final int MAX_NESTING_LEVEL = 1000;
   private static final int MIN_BUFFER_SIZE = 10;
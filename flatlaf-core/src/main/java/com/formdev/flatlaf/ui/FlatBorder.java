@@ -38,6 +38,7 @@ import javax.swing.plaf.basic.BasicBorders;
 import javax.swing.text.JTextComponent;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.util.DerivedColor;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Border for various components (e.g. {@link javax.swing.JTextField}).
@@ -83,6 +84,9 @@ public class FlatBorder
 
 	@Override
 	public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+		if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+			return;
+
 		Graphics2D g2 = (Graphics2D) g.create();
 		try {
 			FlatUIUtils.setRenderingHints( g2 );
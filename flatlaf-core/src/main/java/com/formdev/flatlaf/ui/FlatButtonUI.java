@@ -38,12 +38,12 @@ import javax.swing.JComponent;
 import javax.swing.JToggleButton;
 import javax.swing.JToolBar;
 import javax.swing.LookAndFeel;
-import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
 import javax.swing.plaf.basic.BasicButtonListener;
 import javax.swing.plaf.basic.BasicButtonUI;
 import com.formdev.flatlaf.FlatLaf;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -94,43 +94,7 @@ import com.formdev.flatlaf.util.UIScale;
 public class FlatButtonUI
 	extends BasicButtonUI
 {
-	protected int minimumWidth;
-	protected int iconTextGap;
-
-	protected Color background;
-	protected Color foreground;
-
-	protected Color startBackground;
-	protected Color endBackground;
-	protected Color focusedBackground;
-	protected Color hoverBackground;
-	protected Color pressedBackground;
-	protected Color selectedBackground;
-	protected Color selectedForeground;
-	protected Color disabledBackground;
-	protected Color disabledText;
-	protected Color disabledSelectedBackground;
-
-	protected Color defaultBackground;
-	protected Color defaultEndBackground;
-	protected Color defaultForeground;
-	protected Color defaultFocusedBackground;
-	protected Color defaultHoverBackground;
-	protected Color defaultPressedBackground;
-	protected boolean defaultBoldText;
-
-	protected int shadowWidth;
-	protected Color shadowColor;
-	protected Color defaultShadowColor;
-
-	protected Insets toolbarSpacingInsets;
-	protected Color toolbarHoverBackground;
-	protected Color toolbarPressedBackground;
-	protected Color toolbarSelectedBackground;
-
-	private Icon helpButtonIcon;
-
-	private boolean defaults_initialized = false;
+	protected Style style;
 
 	public static ComponentUI createUI( JComponent c ) {
 		return FlatUIUtils.createSharedUI( FlatButtonUI.class, FlatButtonUI::new );
@@ -140,62 +104,17 @@ public class FlatButtonUI
 	protected void installDefaults( AbstractButton b ) {
 		super.installDefaults( b );
 
-		if( !defaults_initialized ) {
-			String prefix = getPropertyPrefix();
-
-			minimumWidth = UIManager.getInt( prefix + "minimumWidth" );
-			iconTextGap = FlatUIUtils.getUIInt( prefix + "iconTextGap", 4 );
-
-			background = UIManager.getColor( prefix + "background" );
-			foreground = UIManager.getColor( prefix + "foreground" );
-
-			startBackground = UIManager.getColor( prefix + "startBackground" );
-			endBackground = UIManager.getColor( prefix + "endBackground" );
-			focusedBackground = UIManager.getColor( prefix + "focusedBackground" );
-			hoverBackground = UIManager.getColor( prefix + "hoverBackground" );
-			pressedBackground = UIManager.getColor( prefix + "pressedBackground" );
-			selectedBackground = UIManager.getColor( prefix + "selectedBackground" );
-			selectedForeground = UIManager.getColor( prefix + "selectedForeground" );
-			disabledBackground = UIManager.getColor( prefix + "disabledBackground" );
-			disabledText = UIManager.getColor( prefix + "disabledText" );
-			disabledSelectedBackground = UIManager.getColor( prefix + "disabledSelectedBackground" );
-
-			if( UIManager.getBoolean( "Button.paintShadow" ) ) {
-				shadowWidth = FlatUIUtils.getUIInt( "Button.shadowWidth", 2 );
-				shadowColor = UIManager.getColor( "Button.shadowColor" );
-				defaultShadowColor = UIManager.getColor( "Button.default.shadowColor" );
-			} else {
-				shadowWidth = 0;
-				shadowColor = null;
-				defaultShadowColor = null;
-			}
-
-			defaultBackground = FlatUIUtils.getUIColor( "Button.default.startBackground", "Button.default.background" );
-			defaultEndBackground = UIManager.getColor( "Button.default.endBackground" );
-			defaultForeground = UIManager.getColor( "Button.default.foreground" );
-			defaultFocusedBackground = UIManager.getColor( "Button.default.focusedBackground" );
-			defaultHoverBackground = UIManager.getColor( "Button.default.hoverBackground" );
-			defaultPressedBackground = UIManager.getColor( "Button.default.pressedBackground" );
-			defaultBoldText = UIManager.getBoolean( "Button.default.boldText" );
-
-			toolbarSpacingInsets = UIManager.getInsets( "Button.toolbar.spacingInsets" );
-			toolbarHoverBackground = UIManager.getColor( prefix + "toolbar.hoverBackground" );
-			toolbarPressedBackground = UIManager.getColor( prefix + "toolbar.pressedBackground" );
-			toolbarSelectedBackground = UIManager.getColor( prefix + "toolbar.selectedBackground" );
+		String prefix = getPropertyPrefix();
+		style = FlatStyleCache.get( Style.class, this, r -> new Style( r, prefix ) );
 
-			helpButtonIcon = UIManager.getIcon( "HelpButton.icon" );
-
-			defaults_initialized = true;
-		}
-
-		if( startBackground != null ) {
+		if( style.startBackground != null ) {
 			Color bg = b.getBackground();
 			if( bg == null || bg instanceof UIResource )
-				b.setBackground( startBackground );
+				b.setBackground( style.startBackground );
 		}
 
 		LookAndFeel.installProperty( b, "opaque", false );
-		LookAndFeel.installProperty( b, "iconTextGap", scale( iconTextGap ) );
+		LookAndFeel.installProperty( b, "iconTextGap", scale( style.iconTextGap ) );
 
 		MigLayoutVisualPadding.install( b );
 	}
@@ -205,7 +124,6 @@ public class FlatButtonUI
 		super.uninstallDefaults( b );
 
 		MigLayoutVisualPadding.uninstall( b );
-		defaults_initialized = false;
 	}
 
 	@Override
@@ -287,12 +205,15 @@ public class FlatButtonUI
 
 	@Override
 	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
 		// fill background if opaque to avoid garbage if user sets opaque to true
 		if( c.isOpaque() )
 			FlatUIUtils.paintParentBackground( g, c );
 
 		if( isHelpButton( c ) ) {
-			helpButtonIcon.paintIcon( c, g, 0, 0 );
+			style.helpButtonIcon.paintIcon( c, g, 0, 0 );
 			return;
 		}
 
@@ -323,7 +244,7 @@ public class FlatButtonUI
 			int height = c.getHeight();
 
 			if( isToolBarButton ) {
-				Insets spacing = UIScale.scale( toolbarSpacingInsets );
+				Insets spacing = UIScale.scale( style.toolbarSpacingInsets );
 				x += spacing.left;
 				y += spacing.top;
 				width -= spacing.left + spacing.right;
@@ -331,18 +252,18 @@ public class FlatButtonUI
 			}
 
 			// paint shadow
-			Color shadowColor = def ? defaultShadowColor : this.shadowColor;
-			if( !isToolBarButton && shadowColor != null && shadowWidth > 0 && focusWidth > 0 &&
+			Color shadowColor = def ? style.defaultShadowColor : style.shadowColor;
+			if( !isToolBarButton && shadowColor != null && style.shadowWidth > 0 && focusWidth > 0 &&
 				!(isFocusPainted( c ) && FlatUIUtils.isPermanentFocusOwner( c )) && c.isEnabled() )
 			{
 				g2.setColor( shadowColor );
-				g2.fill( new RoundRectangle2D.Float( focusWidth, focusWidth + UIScale.scale( (float) shadowWidth ),
+				g2.fill( new RoundRectangle2D.Float( focusWidth, focusWidth + UIScale.scale( (float) style.shadowWidth ),
 					width - focusWidth * 2, height - focusWidth * 2, arc, arc ) );
 			}
 
 			// paint background
-			Color startBg = def ? defaultBackground : startBackground;
-			Color endBg = def ? defaultEndBackground : endBackground;
+			Color startBg = def ? style.defaultBackground : style.startBackground;
+			Color endBg = def ? style.defaultEndBackground : style.endBackground;
 			if( background == startBg && endBg != null && !startBg.equals( endBg ) )
 				g2.setPaint( new GradientPaint( 0, 0, startBg, 0, height, endBg ) );
 			else
@@ -364,7 +285,7 @@ public class FlatButtonUI
 		if( isHelpButton( b ) )
 			return;
 
-		if( defaultBoldText && isDefaultButton( b ) && b.getFont() instanceof UIResource ) {
+		if( style.defaultBoldText && isDefaultButton( b ) && b.getFont() instanceof UIResource ) {
 			Font boldFont = g.getFont().deriveFont( Font.BOLD );
 			g.setFont( boldFont );
 
@@ -393,22 +314,22 @@ public class FlatButtonUI
 			// we assume that toolbar icon is shown disabled
 			boolean toolBarButton = isToolBarButton( c );
 			return buttonStateColor( c,
-				toolBarButton ? toolbarSelectedBackground : selectedBackground,
-				toolBarButton ? toolbarSelectedBackground : disabledSelectedBackground,
+				toolBarButton ? style.toolbarSelectedBackground : style.selectedBackground,
+				toolBarButton ? style.toolbarSelectedBackground : style.disabledSelectedBackground,
 				null, null,
-				toolBarButton ? toolbarPressedBackground : pressedBackground );
+				toolBarButton ? style.toolbarPressedBackground : style.pressedBackground );
 		}
 
 		if( !c.isEnabled() )
-			return disabledBackground;
+			return style.disabledBackground;
 
 		// toolbar button
 		if( isToolBarButton( c ) ) {
 			ButtonModel model = ((AbstractButton)c).getModel();
 			if( model.isPressed() )
-				return toolbarPressedBackground;
+				return style.toolbarPressedBackground;
 			if( model.isRollover() )
-				return toolbarHoverBackground;
+				return style.toolbarHoverBackground;
 
 			// use component background if explicitly set
 			Color bg = c.getBackground();
@@ -423,9 +344,9 @@ public class FlatButtonUI
 		return buttonStateColor( c,
 			getBackgroundBase( c, def ),
 			null,
-			isCustomBackground( c.getBackground() ) ? null : (def ? defaultFocusedBackground : focusedBackground),
-			def ? defaultHoverBackground : hoverBackground,
-			def ? defaultPressedBackground : pressedBackground );
+			isCustomBackground( c.getBackground() ) ? null : (def ? style.defaultFocusedBackground : style.focusedBackground),
+			def ? style.defaultHoverBackground : style.hoverBackground,
+			def ? style.defaultPressedBackground : style.pressedBackground );
 	}
 
 	protected Color getBackgroundBase( JComponent c, boolean def ) {
@@ -434,11 +355,11 @@ public class FlatButtonUI
 		if( isCustomBackground( bg ) )
 			return bg;
 
-		return def ? defaultBackground : bg;
+		return def ? style.defaultBackground : bg;
 	}
 
 	protected boolean isCustomBackground( Color bg ) {
-		return bg != background && (startBackground == null || bg != startBackground);
+		return bg != style.background && (style.startBackground == null || bg != style.startBackground);
 	}
 
 	public static Color buttonStateColor( Component c, Color enabledColor, Color disabledColor,
@@ -463,10 +384,10 @@ public class FlatButtonUI
 
 	protected Color getForeground( JComponent c ) {
 		if( !c.isEnabled() )
-			return disabledText;
+			return style.disabledText;
 
 		if( ((AbstractButton)c).isSelected() && !isToolBarButton( c ) )
-			return selectedForeground;
+			return style.selectedForeground;
 
 		// use component foreground if explicitly set
 		Color fg = c.getForeground();
@@ -474,17 +395,17 @@ public class FlatButtonUI
 			return fg;
 
 		boolean def = isDefaultButton( c );
-		return def ? defaultForeground : fg;
+		return def ? style.defaultForeground : fg;
 	}
 
 	protected boolean isCustomForeground( Color fg ) {
-		return fg != foreground;
+		return fg != style.foreground;
 	}
 
 	@Override
 	public Dimension getPreferredSize( JComponent c ) {
 		if( isHelpButton( c ) )
-			return new Dimension( helpButtonIcon.getIconWidth(), helpButtonIcon.getIconHeight() );
+			return new Dimension( style.helpButtonIcon.getIconWidth(), style.helpButtonIcon.getIconHeight() );
 
 		Dimension prefSize = super.getPreferredSize( c );
 		if( prefSize == null )
@@ -501,7 +422,7 @@ public class FlatButtonUI
 		} else if( !isIconOnlyOrSingleCharacter && !isToolBarButton( c ) && c.getBorder() instanceof FlatButtonBorder ) {
 			// apply minimum width/height
 			float focusWidth = FlatUIUtils.getBorderFocusWidth( c );
-			prefSize.width = Math.max( prefSize.width, scale( FlatUIUtils.minimumWidth( c, minimumWidth ) ) + Math.round( focusWidth * 2 ) );
+			prefSize.width = Math.max( prefSize.width, scale( FlatUIUtils.minimumWidth( c, style.minimumWidth ) ) + Math.round( focusWidth * 2 ) );
 			prefSize.height = Math.max( prefSize.height, scale( FlatUIUtils.minimumHeight( c, 0 ) ) + Math.round( focusWidth * 2 ) );
 		}
 
@@ -526,4 +447,93 @@ public class FlatButtonUI
 			FlatButtonUI.this.propertyChange( b, e );
 		}
 	}
+
+	//---- class Style --------------------------------------------------------
+
+	/**
+	 * Values from UI defaults that are shared by all buttons of a delegate class
+	 * (for the current look and feel).
+	 */
+	public static class Style
+	{
+		public final int minimumWidth;
+		public final int iconTextGap;
+
+		public final Color background;
+		public final Color foreground;
+
+		public final Color startBackground;
+		public final Color endBackground;
+		public final Color focusedBackground;
+		public final Color hoverBackground;
+		public final Color pressedBackground;
+		public final Color selectedBackground;
+		public final Color selectedForeground;
+		public final Color disabledBackground;
+		public final Color disabledText;
+		public final Color disabledSelectedBackground;
+
+		public final Color defaultBackground;
+		public final Color defaultEndBackground;
+		public final Color defaultForeground;
+		public final Color defaultFocusedBackground;
+		public final Color defaultHoverBackground;
+		public final Color defaultPressedBackground;
+		public final boolean defaultBoldText;
+
+		public final int shadowWidth;
+		public final Color shadowColor;
+		public final Color defaultShadowColor;
+
+		public final Insets toolbarSpacingInsets;
+		public final Color toolbarHoverBackground;
+		public final Color toolbarPressedBackground;
+		public final Color toolbarSelectedBackground;
+
+		final Icon helpButtonIcon;
+
+		Style( FlatStyleCache.Reader r, String prefix ) {
+			minimumWidth = r.getInt( prefix + "minimumWidth" );
+			iconTextGap = r.getInt( prefix + "iconTextGap", 4 );
+
+			background = r.getColor( prefix + "background" );
+			foreground = r.getColor( prefix + "foreground" );
+
+			startBackground = r.getColor( prefix + "startBackground" );
+			endBackground = r.getColor( prefix + "endBackground" );
+			focusedBackground = r.getColor( prefix + "focusedBackground" );
+			hoverBackground = r.getColor( prefix + "hoverBackground" );
+			pressedBackground = r.getColor( prefix + "pressedBackground" );
+			selectedBackground = r.getColor( prefix + "selectedBackground" );
+			selectedForeground = r.getColor( prefix + "selectedForeground" );
+			disabledBackground = r.getColor( prefix + "disabledBackground" );
+			disabledText = r.getColor( prefix + "disabledText" );
+			disabledSelectedBackground = r.getColor( prefix + "disabledSelectedBackground" );
+
+			if( r.getBoolean( "Button.paintShadow" ) ) {
+				shadowWidth = r.getInt( "Button.shadowWidth", 2 );
+				shadowColor = r.getColor( "Button.shadowColor" );
+				defaultShadowColor = r.getColor( "Button.default.shadowColor" );
+			} else {
+				shadowWidth = 0;
+				shadowColor = null;
+				defaultShadowColor = null;
+			}
+
+			defaultBackground = r.getColor( "Button.default.startBackground", "Button.default.background" );
+			defaultEndBackground = r.getColor( "Button.default.endBackground" );
+			defaultForeground = r.getColor( "Button.default.foreground" );
+			defaultFocusedBackground = r.getColor( "Button.default.focusedBackground" );
+			defaultHoverBackground = r.getColor( "Button.default.hoverBackground" );
+			defaultPressedBackground = r.getColor( "Button.default.pressedBackground" );
+			defaultBoldText = r.getBoolean( "Button.default.boldText" );
+
+			toolbarSpacingInsets = r.getInsets( "Button.toolbar.spacingInsets" );
+			toolbarHoverBackground = r.getColor( prefix + "toolbar.hoverBackground" );
+			toolbarPressedBackground = r.getColor( prefix + "toolbar.pressedBackground" );
+			toolbarSelectedBackground = r.getColor( prefix + "toolbar.selectedBackground" );
+
+			helpButtonIcon = r.getIcon( "HelpButton.icon" );
+		}
+	}
 }
@@ -23,6 +23,7 @@ import javax.swing.JComponent;
 import javax.swing.LookAndFeel;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicCheckBoxMenuItemUI;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JCheckBoxMenuItem}.
@@ -86,6 +87,14 @@ public class FlatCheckBoxMenuItemUI
 		return renderer.getPreferredMenuItemSize();
 	}
 
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
+	}
+
 	@Override
 	public void paint( Graphics g, JComponent c ) {
 		renderer.paintMenuItem( g, selectionBackground, selectionForeground, disabledForeground,
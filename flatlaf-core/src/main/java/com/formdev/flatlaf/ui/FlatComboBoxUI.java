@@ -66,6 +66,7 @@ import javax.swing.plaf.basic.BasicComboPopup;
 import javax.swing.plaf.basic.ComboPopup;
 import javax.swing.text.JTextComponent;
 import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.SystemInfo;
 import com.formdev.flatlaf.util.UIScale;
 
@@ -106,24 +107,7 @@ import com.formdev.flatlaf.util.UIScale;
 public class FlatComboBoxUI
 	extends BasicComboBoxUI
 {
-	protected int minimumWidth;
-	protected int editorColumns;
-	protected String buttonStyle;
-	protected String arrowType;
-	protected boolean isIntelliJTheme;
-	protected Color borderColor;
-	protected Color disabledBorderColor;
-
-	protected Color editableBackground;
-	protected Color disabledBackground;
-	protected Color disabledForeground;
-
-	protected Color buttonBackground;
-	protected Color buttonEditableBackground;
-	protected Color buttonArrowColor;
-	protected Color buttonDisabledArrowColor;
-	protected Color buttonHoverArrowColor;
-	protected Color buttonPressedArrowColor;
+	protected Style style;
 
 	private MouseListener hoverListener;
 	protected boolean hover;
@@ -186,24 +170,7 @@ public class FlatComboBoxUI
 
 		LookAndFeel.installProperty( comboBox, "opaque", false );
 
-		minimumWidth = UIManager.getInt( "ComboBox.minimumWidth" );
-		editorColumns = UIManager.getInt( "ComboBox.editorColumns" );
-		buttonStyle = UIManager.getString( "ComboBox.buttonStyle" );
-		arrowType = UIManager.getString( "Component.arrowType" );
-		isIntelliJTheme = UIManager.getBoolean( "Component.isIntelliJTheme" );
-		borderColor = UIManager.getColor( "Component.borderColor" );
-		disabledBorderColor = UIManager.getColor( "Component.disabledBorderColor" );
-
-		editableBackground = UIManager.getColor( "ComboBox.editableBackground" );
-		disabledBackground = UIManager.getColor( "ComboBox.disabledBackground" );
-		disabledForeground = UIManager.getColor( "ComboBox.disabledForeground" );
-
-		buttonBackground = UIManager.getColor( "ComboBox.buttonBackground" );
-		buttonEditableBackground = UIManager.getColor( "ComboBox.buttonEditableBackground" );
-		buttonArrowColor = UIManager.getColor( "ComboBox.buttonArrowColor" );
-		buttonDisabledArrowColor = UIManager.getColor( "ComboBox.buttonDisabledArrowColor" );
-		buttonHoverArrowColor = UIManager.getColor( "ComboBox.buttonHoverArrowColor" );
-		buttonPressedArrowColor = UIManager.getColor( "ComboBox.buttonPressedArrowColor" );
+		style = FlatStyleCache.get( Style.class, this, Style::new );
 
 		// set maximumRowCount
 		int maximumRowCount = UIManager.getInt( "ComboBox.maximumRowCount" );
@@ -220,20 +187,6 @@ public class FlatComboBoxUI
 	protected void uninstallDefaults() {
 		super.uninstallDefaults();
 
-		borderColor = null;
-		disabledBorderColor = null;
-
-		editableBackground = null;
-		disabledBackground = null;
-		disabledForeground = null;
-
-		buttonBackground = null;
-		buttonEditableBackground = null;
-		buttonArrowColor = null;
-		buttonDisabledArrowColor = null;
-		buttonHoverArrowColor = null;
-		buttonPressedArrowColor = null;
-
 		MigLayoutVisualPadding.uninstall( comboBox );
 	}
 
@@ -313,7 +266,7 @@ public class FlatComboBoxUI
 		Component editor = comboBoxEditor.getEditorComponent();
 		if( editor instanceof JTextField ) {
 			JTextField textField = (JTextField) editor;
-			textField.setColumns( editorColumns );
+			textField.setColumns( style.editorColumns );
 
 			// assign a non-null and non-javax.swing.plaf.UIResource border to the text field,
 			// otherwise it is replaced with default text field border when switching LaF
@@ -374,6 +327,9 @@ public class FlatComboBoxUI
 
 	@Override
 	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
 		float focusWidth = FlatUIUtils.getBorderFocusWidth( c );
 		float arc = FlatUIUtils.getBorderArc( c );
 
@@ -388,7 +344,7 @@ public class FlatComboBoxUI
 		int height = c.getHeight();
 		int arrowX = arrowButton.getX();
 		int arrowWidth = arrowButton.getWidth();
-		boolean paintButton = (comboBox.isEditable() || "button".equals( buttonStyle )) && !"none".equals( buttonStyle );
+		boolean paintButton = (comboBox.isEditable() || "button".equals( style.buttonStyle )) && !"none".equals( style.buttonStyle );
 		boolean enabled = comboBox.isEnabled();
 		boolean isLeftToRight = comboBox.getComponentOrientation().isLeftToRight();
 
@@ -398,7 +354,7 @@ public class FlatComboBoxUI
 
 		// paint arrow button background
 		if( enabled ) {
-			g2.setColor( paintButton ? buttonEditableBackground : buttonBackground );
+			g2.setColor( paintButton ? style.buttonEditableBackground : style.buttonBackground );
 			Shape oldClip = g2.getClip();
 			if( isLeftToRight )
 				g2.clipRect( arrowX, 0, width - arrowX, height );
@@ -410,7 +366,7 @@ public class FlatComboBoxUI
 
 		// paint vertical line between value and arrow button
 		if( paintButton ) {
-			g2.setColor( enabled ? borderColor : disabledBorderColor );
+			g2.setColor( enabled ? style.borderColor : style.disabledBorderColor );
 			float lw = scale( 1f );
 			float lx = isLeftToRight ? arrowX : arrowX + arrowWidth - lw;
 			g2.fill( new Rectangle2D.Float( lx, focusWidth, lw, height - 1 - (focusWidth * 2)) );
@@ -458,18 +414,18 @@ public class FlatComboBoxUI
 
 	protected Color getBackground( boolean enabled ) {
 		return enabled
-			? (editableBackground != null && comboBox.isEditable() ? editableBackground : comboBox.getBackground())
-			: (isIntelliJTheme ? FlatUIUtils.getParentBackground( comboBox ) : disabledBackground);
+			? (style.editableBackground != null && comboBox.isEditable() ? style.editableBackground : comboBox.getBackground())
+			: (style.isIntelliJTheme ? FlatUIUtils.getParentBackground( comboBox ) : style.disabledBackground);
 	}
 
 	protected Color getForeground( boolean enabled ) {
-		return enabled ? comboBox.getForeground() : disabledForeground;
+		return enabled ? comboBox.getForeground() : style.disabledForeground;
 	}
 
 	@Override
 	public Dimension getMinimumSize( JComponent c ) {
 		Dimension minimumSize = super.getMinimumSize( c );
-		minimumSize.width = Math.max( minimumSize.width, scale( FlatUIUtils.minimumWidth( c, minimumWidth ) ) );
+		minimumSize.width = Math.max( minimumSize.width, scale( FlatUIUtils.minimumWidth( c, style.minimumWidth ) ) );
 		return minimumSize;
 	}
 
@@ -546,8 +502,8 @@ public class FlatComboBoxUI
 		extends FlatArrowButton
 	{
 		protected FlatComboBoxButton() {
-			this( SwingConstants.SOUTH, arrowType, buttonArrowColor, buttonDisabledArrowColor,
-				buttonHoverArrowColor, null, buttonPressedArrowColor, null );
+			this( SwingConstants.SOUTH, style.arrowType, style.buttonArrowColor, style.buttonDisabledArrowColor,
+				style.buttonHoverArrowColor, null, style.buttonPressedArrowColor, null );
 		}
 
 		protected FlatComboBoxButton( int direction, String type, Color foreground, Color disabledForeground,
@@ -784,4 +740,53 @@ public class FlatComboBoxUI
 			}
 		}
 	}
+
+	//---- class Style --------------------------------------------------------
+
+	/**
+	 * Values from UI defaults that are shared by all combo boxes
+	 * (for the current look and feel).
+	 */
+	public static class Style
+	{
+		public final int minimumWidth;
+		public final int editorColumns;
+		public final String buttonStyle;
+		public final String arrowType;
+		public final boolean isIntelliJTheme;
+		public final Color borderColor;
+		public final Color disabledBorderColor;
+
+		public final Color editableBackground;
+		public final Color disabledBackground;
+		public final Color disabledForeground;
+
+		public final Color buttonBackground;
+		public final Color buttonEditableBackground;
+		public final Color buttonArrowColor;
+		public final Color buttonDisabledArrowColor;
+		public final Color buttonHoverArrowColor;
+		public final Color buttonPressedArrowColor;
+
+		Style( FlatStyleCache.Reader r ) {
+			minimumWidth = r.getInt( "ComboBox.minimumWidth" );
+			editorColumns = r.getInt( "ComboBox.editorColumns" );
+			buttonStyle = r.getString( "ComboBox.buttonStyle" );
+			arrowType = r.getString( "Component.arrowType" );
+			isIntelliJTheme = r.getBoolean( "Component.isIntelliJTheme" );
+			borderColor = r.getColor( "Component.borderColor" );
+			disabledBorderColor = r.getColor( "Component.disabledBorderColor" );
+
+			editableBackground = r.getColor( "ComboBox.editableBackground" );
+			disabledBackground = r.getColor( "ComboBox.disabledBackground" );
+			disabledForeground = r.getColor( "ComboBox.disabledForeground" );
+
+			buttonBackground = r.getColor( "ComboBox.buttonBackground" );
+			buttonEditableBackground = r.getColor( "ComboBox.buttonEditableBackground" );
+			buttonArrowColor = r.getColor( "ComboBox.buttonArrowColor" );
+			buttonDisabledArrowColor = r.getColor( "ComboBox.buttonDisabledArrowColor" );
+			buttonHoverArrowColor = r.getColor( "ComboBox.buttonHoverArrowColor" );
+			buttonPressedArrowColor = r.getColor( "ComboBox.buttonPressedArrowColor" );
+		}
+	}
 }
@@ -16,19 +16,24 @@
 
 package com.formdev.flatlaf.ui;
 
+import java.awt.AlphaComposite;
 import java.awt.Component;
 import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.EventQueue;
 import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.Insets;
 import java.awt.LayoutManager;
 import java.awt.Point;
+import java.awt.RenderingHints;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.beans.PropertyVetoException;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
@@ -45,6 +50,7 @@ import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicDesktopIconUI;
+import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -67,6 +73,8 @@ import com.formdev.flatlaf.util.UIScale;
 public class FlatDesktopIconUI
 	extends BasicDesktopIconUI
 {
+	private static SoftReference<BufferedImage> reusableFrameImage;
+
 	private Dimension iconSize;
 	private Dimension closeSize;
 
@@ -76,6 +84,9 @@ public class FlatDesktopIconUI
 	private ActionListener closeListener;
 	private MouseInputListener mouseInputListener;
 
+	/** Incremented on each dock icon update; used to ignore outdated previews. */
+	private int previewGeneration;
+
 	public static ComponentUI createUI( JComponent c ) {
 		return new FlatDesktopIconUI();
 	}
@@ -236,6 +247,11 @@ public class FlatDesktopIconUI
 		} );
 	}
 
+	/**
+	 * Paints the internal frame into an image (on the EDT) and scales the image
+	 * to the preview size in a background thread. The empty desktop icon is shown
+	 * as placeholder until the preview is ready.
+	 */
 	private void updateDockIconLater() {
 		// make sure that frame is not selected
 		if( frame.isSelected() ) {
@@ -246,12 +262,19 @@ public class FlatDesktopIconUI
 			}
 		}
 
-		// paint internal frame to buffered image
+		// paint internal frame to (reused) buffered image
 		int frameWidth = Math.max( frame.getWidth(), 1 );
 		int frameHeight = Math.max( frame.getHeight(), 1 );
-		BufferedImage frameImage = new BufferedImage( frameWidth, frameHeight, BufferedImage.TYPE_INT_ARGB );
+		BufferedImage frameImage = acquireFrameImage( frameWidth, frameHeight );
 		Graphics2D g = frameImage.createGraphics();
 		try {
+			// clear area used by previous frame
+			g.setComposite( AlphaComposite.Clear );
+			g.fillRect( 0, 0, frameWidth, frameHeight );
+			g.setComposite( AlphaComposite.SrcOver );
+
+			g.clipRect( 0, 0, frameWidth, frameHeight );
+
 			//TODO fix missing internal frame header when switching LaF
 			frame.paint( g );
 		} finally {
@@ -267,10 +290,98 @@ public class FlatDesktopIconUI
 			previewWidth = Math.round( previewHeight / frameRatio );
 		else
 			previewHeight = Math.round( previewWidth * frameRatio );
+		int previewWidth2 = Math.max( previewWidth, 1 );
+		int previewHeight2 = Math.max( previewHeight, 1 );
+
+		// show placeholder (empty desktop icon) until preview is ready
+		int generation = ++previewGeneration;
+		dockIcon.setIcon( null );
+
+		// scale preview in background thread
+		CompletableFuture.supplyAsync( () -> {
+			try {
+				return scaleImage( frameImage, frameWidth, frameHeight, previewWidth2, previewHeight2 );
+			} finally {
+				releaseFrameImage( frameImage );
+			}
+		}, FlatUIUtils.getBackgroundExecutor() ).whenComplete( (previewImage, ex) -> {
+			if( ex != null ) {
+				Logger.getLogger( FlatLaf.class.getName() ).log( Level.WARNING,
+					"FlatLaf: Failed to create internal frame preview.", ex );
+				return;
+			}
+
+			EventQueue.invokeLater( () -> {
+				// ignore preview if UI was uninstalled or a newer preview was requested
+				if( dockIcon != null && generation == previewGeneration )
+					dockIcon.setIcon( new ImageIcon( previewImage ) );
+			} );
+		} );
+	}
+
+	/**
+	 * Returns a buffered image that is at least as large as the given size.
+	 * Reuses a previously released image if it is large enough.
+	 * Several images are used if previews of several frames are created at once.
+	 */
+	private static synchronized BufferedImage acquireFrameImage( int width, int height ) {
+		BufferedImage image = (reusableFrameImage != null) ? reusableFrameImage.get() : null;
+		if( image != null && image.getWidth() >= width && image.getHeight() >= height ) {
+			reusableFrameImage = null;
+			return image;
+		}
+		return new BufferedImage( width, height, BufferedImage.TYPE_INT_ARGB );
+	}
+
+	/**
+	 * Keeps the given image for reuse (if it is larger than the currently kept one).
+	 * The image is softly referenced so that it can be garbage collected if memory is low.
+	 */
+	private static synchronized void releaseFrameImage( BufferedImage image ) {
+		BufferedImage kept = (reusableFrameImage != null) ? reusableFrameImage.get() : null;
+		if( kept == null ||
+			(long) image.getWidth() * image.getHeight() > (long) kept.getWidth() * kept.getHeight() )
+			reusableFrameImage = new SoftReference<>( image );
+	}
+
+	/**
+	 * Scales the given area of an image to the target size.
+	 * Reduces the size in multiple steps by half (using bilinear interpolation),
+	 * which gives similar quality as {@link java.awt.Image#SCALE_SMOOTH},
+	 * but is much faster.
+	 */
+	private static BufferedImage scaleImage( BufferedImage image, int width, int height,
+		int targetWidth, int targetHeight )
+	{
+		BufferedImage result = image;
+		int w = width;
+		int h = height;
+		do {
+			if( w > targetWidth )
+				w = Math.max( w / 2, targetWidth );
+			else if( w < targetWidth )
+				w = targetWidth;
+			if( h > targetHeight )
+				h = Math.max( h / 2, targetHeight );
+			else if( h < targetHeight )
+				h = targetHeight;
+
+			BufferedImage tmp = new BufferedImage( w, h, BufferedImage.TYPE_INT_ARGB );
+			Graphics2D g = tmp.createGraphics();
+			try {
+				g.setRenderingHint( RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR );
+				g.setComposite( AlphaComposite.Src );
+				g.drawImage( result, 0, 0, w, h, 0, 0, width, height, null );
+			} finally {
+				g.dispose();
+			}
+
+			result = tmp;
+			width = w;
+			height = h;
+		} while( w != targetWidth || h != targetHeight );
 
-		// scale preview
-		Image previewImage = frameImage.getScaledInstance( previewWidth, previewHeight, Image.SCALE_SMOOTH );
-		dockIcon.setIcon( new ImageIcon( previewImage ) );
+		return result;
 	}
 
 	//---- class DockIcon -----------------------------------------------------
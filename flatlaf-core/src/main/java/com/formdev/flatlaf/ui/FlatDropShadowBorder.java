@@ -24,7 +24,10 @@ import java.awt.Image;
 import java.awt.Insets;
 import java.awt.RadialGradientPaint;
 import java.awt.image.BufferedImage;
+import java.util.Map;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.LRUCache;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -41,6 +44,12 @@ import com.formdev.flatlaf.util.UIScale;
 public class FlatDropShadowBorder
 	extends FlatEmptyBorder
 {
+	/**
+	 * Shadow images shared by all drop shadow borders.
+	 * Key is shadow color, size, opacity and scale factor.
+	 */
+	private static final Map<ShadowImageKey, BufferedImage> shadowImageCache = new LRUCache<>( 16 );
+
 	private final Color shadowColor;
 	private final Insets shadowInsets;
 	private final float shadowOpacity;
@@ -77,6 +86,9 @@ public class FlatDropShadowBorder
 
 	@Override
 	public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+		if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+			return;
+
 		if( shadowSize <= 0 )
 			return;
 
@@ -94,7 +106,7 @@ public class FlatDropShadowBorder
 			lastSystemScaleFactor != scaleFactor ||
 			lastUserScaleFactor != userScaleFactor )
 		{
-			shadowImage = createShadowImage( shadowColor, shadowSize, shadowOpacity,
+			shadowImage = getShadowImage( shadowColor, shadowSize, shadowOpacity,
 				(float) (scaleFactor * userScaleFactor) );
 			lastShadowColor = shadowColor;
 			lastSystemScaleFactor = scaleFactor;
@@ -185,6 +197,25 @@ debug*/
 		return (int) Math.ceil( UIScale.scale( value ) * scaleFactor );
 	}
 
+	/**
+	 * Returns a shadow image from the shared cache or creates a new one.
+	 * Popups create a new border instance for each popup, so without the shared
+	 * cache the shadow image would be created again for each menu, combo box
+	 * or tooltip popup.
+	 */
+	private static BufferedImage getShadowImage( Color shadowColor, int shadowSize,
+		float shadowOpacity, float scaleFactor )
+	{
+		ShadowImageKey key = new ShadowImageKey( shadowColor.getRGB() & 0xffffff,
+			shadowSize, shadowOpacity, scaleFactor );
+		BufferedImage image = shadowImageCache.get( key );
+		if( image == null ) {
+			image = createShadowImage( shadowColor, shadowSize, shadowOpacity, scaleFactor );
+			shadowImageCache.put( key, image );
+		}
+		return image;
+	}
+
 	private static BufferedImage createShadowImage( Color shadowColor, int shadowSize,
 		float shadowOpacity, float scaleFactor )
 	{
@@ -220,4 +251,42 @@ debug*/
 
 		return image;
 	}
+
+	//---- class ShadowImageKey -----------------------------------------------
+
+	private static class ShadowImageKey
+	{
+		private final int shadowRGB;
+		private final int shadowSize;
+		private final float shadowOpacity;
+		private final float scaleFactor;
+
+		ShadowImageKey( int shadowRGB, int shadowSize, float shadowOpacity, float scaleFactor ) {
+			this.shadowRGB = shadowRGB;
+			this.shadowSize = shadowSize;
+			this.shadowOpacity = shadowOpacity;
+			this.scaleFactor = scaleFactor;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof ShadowImageKey) )
+				return false;
+
+			ShadowImageKey key = (ShadowImageKey) obj;
+			return shadowRGB == key.shadowRGB &&
+				shadowSize == key.shadowSize &&
+				shadowOpacity == key.shadowOpacity &&
+				scaleFactor == key.scaleFactor;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = shadowRGB;
+			result = 31 * result + shadowSize;
+			result = 31 * result + Float.floatToIntBits( shadowOpacity );
+			result = 31 * result + Float.floatToIntBits( scaleFactor );
+			return result;
+		}
+	}
 }
@@ -30,6 +30,7 @@ import javax.swing.plaf.basic.BasicEditorPaneUI;
 import javax.swing.text.JTextComponent;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JEditorPane}.
@@ -121,6 +122,14 @@ public class FlatEditorPaneUI
 		return size;
 	}
 
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
+	}
+
 	@Override
 	protected void paintSafely( Graphics g ) {
 		super.paintSafely( HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g ) );
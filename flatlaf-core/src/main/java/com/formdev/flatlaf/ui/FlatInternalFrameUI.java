@@ -28,6 +28,7 @@ import javax.swing.LookAndFeel;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicInternalFrameUI;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JInternalFrame}.
@@ -160,6 +161,9 @@ public class FlatInternalFrameUI
 
 		@Override
 		public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+			if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+				return;
+
 			JInternalFrame f = (JInternalFrame) c;
 
 			Insets insets = getBorderInsets( c );
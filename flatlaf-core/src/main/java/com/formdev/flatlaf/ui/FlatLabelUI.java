@@ -32,6 +32,7 @@ import javax.swing.plaf.basic.BasicHTML;
 import javax.swing.plaf.basic.BasicLabelUI;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -128,6 +129,14 @@ public class FlatLabelUI
 			: g;
 	}
 
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
+	}
+
 	@Override
 	public void paint( Graphics g, JComponent c ) {
 		super.paint( createGraphicsHTMLTextYCorrection( g, c ), c );
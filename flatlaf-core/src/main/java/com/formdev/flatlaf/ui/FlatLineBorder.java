@@ -22,6 +22,7 @@ import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Line border for various components.
@@ -58,6 +59,9 @@ public class FlatLineBorder
 
 	@Override
 	public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+		if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+			return;
+
 		Graphics2D g2 = (Graphics2D) g.create();
 		try {
 			FlatUIUtils.setRenderingHints( g2 );
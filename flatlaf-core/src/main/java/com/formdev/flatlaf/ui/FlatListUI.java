@@ -18,12 +18,14 @@ package com.formdev.flatlaf.ui;
 
 import java.awt.Color;
 import java.awt.EventQueue;
+import java.awt.Graphics;
 import java.awt.event.FocusEvent;
 import java.awt.event.FocusListener;
 import javax.swing.JComponent;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicListUI;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JList}.
@@ -116,6 +118,14 @@ public class FlatListUI
 		};
 	}
 
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
+	}
+
 	/**
 	 * Toggle selection colors from focused to inactive and vice versa.
 	 *
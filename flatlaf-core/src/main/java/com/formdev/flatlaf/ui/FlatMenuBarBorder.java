@@ -23,6 +23,7 @@ import java.awt.Graphics;
 import java.awt.Insets;
 import javax.swing.JMenuBar;
 import javax.swing.UIManager;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Border for {@link javax.swing.JMenuBar}.
@@ -38,6 +39,9 @@ public class FlatMenuBarBorder
 
 	@Override
 	public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+		if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+			return;
+
 		float lineHeight = scale( (float) 1 );
 		FlatUIUtils.paintFilledRectangle( g, borderColor, x, y + height - lineHeight, width, lineHeight );
 	}
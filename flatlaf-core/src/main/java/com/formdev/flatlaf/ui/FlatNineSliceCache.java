@@ -0,0 +1,368 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import javax.swing.UIManager;
+import com.formdev.flatlaf.FlatSystemProperties;
+import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.LRUCache;
+import com.formdev.flatlaf.util.UIScale;
+
+/**
+ * Paints (rounded) component borders and backgrounds using cached images,
+ * which are stretched to the component size ("nine-slice" painting).
+ * <p>
+ * Each combination of shape type, focus width, line width, arc, color
+ * and scale factor is rendered only once (anti-aliased) into a small image.
+ * The image contains the four corners and a one pixel wide edge between them.
+ * Corners are painted from the image and edges are filled with the
+ * (solid) colors of the edge rows and columns.
+ * This is much faster than filling anti-aliased shapes if Java2D uses
+ * software rendering (e.g. remote X11 displays or VNC).
+ * <p>
+ * Disabled by default. Enable with system property
+ * {@link FlatSystemProperties#NINE_SLICE_CACHE flatlaf.nineSliceCache}{@code =true}.
+ * <p>
+ * Images are rendered in device pixels and painted at scale 1x.
+ * Painting results are the same as without cache.
+ * The least recently used images are removed from the cache if the cache exceeds
+ * {@value #CACHE_SIZE} images. The cache is cleared when the look and feel
+ * or the user scale factor changes.
+ * <p>
+ * Like Swing, this class is not thread-safe and should be
+ * used only on the AWT event dispatching thread.
+ *
+ * @author agent
+ */
+class FlatNineSliceCache
+{
+	static final int BACKGROUND = 0;
+	static final int BORDER = 1;
+	static final int OUTER_BORDER = 2;
+
+	private static final int CACHE_SIZE = 200;
+
+	private static final boolean enabled = FlatSystemProperties.getBoolean( FlatSystemProperties.NINE_SLICE_CACHE, false );
+	private static final Map<Key, NineSlice> cache = new LRUCache<>( CACHE_SIZE );
+
+	static {
+		if( enabled ) {
+			UIManager.addPropertyChangeListener( e -> {
+				if( "lookAndFeel".equals( e.getPropertyName() ) )
+					cache.clear();
+			} );
+			UIScale.addPropertyChangeListener( e -> {
+				cache.clear();
+			} );
+		}
+	}
+
+	/**
+	 * Paints a component border or background using a cached image.
+	 * Parameters are the same as for the {@code FlatUIUtils.paintComponent*()} methods.
+	 *
+	 * @return {@code true} if painted; {@code false} if the cache is disabled or
+	 *         can not be used (caller has to paint the shape)
+	 */
+	static boolean paint( Graphics2D g, int type, int x, int y, int width, int height,
+		float focusWidth, float lineWidth, float arc )
+	{
+		if( !enabled )
+			return false;
+
+		AffineTransform t = g.getTransform();
+		if( !isSupported( g, t ) )
+			return false;
+
+		// FlatUIUtils paints in user space if system scale factor is 1 or 2,
+		// otherwise at scale 1x in device space
+		// --> render image the same way to get same results
+		double scaleFactor = t.getScaleX();
+		double systemScaleFactor = UIScale.getSystemScaleFactor( g );
+		boolean userSpace = (systemScaleFactor == 1 || systemScaleFactor == 2);
+		int imageScale;
+		float fw, lw, a;
+		if( userSpace ) {
+			// images can be rendered in user space only for integer scale factors
+			if( scaleFactor != Math.rint( scaleFactor ) || scaleFactor != t.getScaleY() )
+				return false;
+
+			imageScale = (int) scaleFactor;
+			fw = focusWidth;
+			lw = lineWidth;
+			a = arc;
+		} else {
+			imageScale = 1;
+			fw = (float) (focusWidth * scaleFactor);
+			lw = (float) (lineWidth * scaleFactor);
+			a = (float) (arc * scaleFactor);
+		}
+
+		// size of corners (in device pixels)
+		// (outside of the corners, all rows/columns of the shape are equal)
+		int c = (int) Math.ceil( (fw + Math.max( (type != BACKGROUND) ? lw : 0, a / 2 )) * imageScale );
+
+		// image size (in device pixels; must be a multiple of the image scale)
+		int size = (c * 2) + 1;
+		if( size % imageScale != 0 )
+			size += imageScale - (size % imageScale);
+
+		// paint shape if component is too small for nine-slice painting
+		// (the arc would be reduced, see FlatUIUtils.createComponentRectangle())
+		if( userSpace && (width * imageScale < size || height * imageScale < size) )
+			return false;
+
+		int size2 = size;
+		Color color = (Color) g.getPaint();
+		HiDPIUtils.paintAtScale1x( g, x, y, width, height,
+			(g2d, x2, y2, width2, height2, scaleFactor2) -> {
+				if( width2 < size2 || height2 < size2 ) {
+					paintShape( g2d, type, x2, y2, width2, height2, fw, lw, a );
+					return;
+				}
+
+				NineSlice nineSlice = getNineSlice( type, color, fw, lw, a, imageScale, size2, c );
+				nineSlice.paint( g2d, x2, y2, width2, height2, (type == BACKGROUND) ? color : null );
+			} );
+		return true;
+	}
+
+	/**
+	 * The cache can be used only for solid colors, anti-aliased painting,
+	 * opaque SRC_OVER composite and if the graphics context is not rotated or sheared.
+	 */
+	private static boolean isSupported( Graphics2D g, AffineTransform t ) {
+		Composite composite = g.getComposite();
+		return g.getPaint() instanceof Color &&
+			composite instanceof AlphaComposite &&
+			((AlphaComposite)composite).getRule() == AlphaComposite.SRC_OVER &&
+			((AlphaComposite)composite).getAlpha() == 1f &&
+			g.getRenderingHint( RenderingHints.KEY_ANTIALIASING ) == RenderingHints.VALUE_ANTIALIAS_ON &&
+			(t.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) == 0 &&
+			t.getScaleX() > 0 && t.getScaleY() > 0;
+	}
+
+	private static NineSlice getNineSlice( int type, Color color,
+		float focusWidth, float lineWidth, float arc, int imageScale, int size, int c )
+	{
+		Key key = new Key( type, color, focusWidth, lineWidth, arc, imageScale, UIScale.getUserScaleFactor() );
+		NineSlice nineSlice = cache.get( key );
+		if( nineSlice == null ) {
+			BufferedImage image = new BufferedImage( size, size, BufferedImage.TYPE_INT_ARGB_PRE );
+			Graphics2D ig = image.createGraphics();
+			try {
+				FlatUIUtils.setRenderingHints( ig );
+				ig.scale( imageScale, imageScale );
+				ig.setColor( color );
+
+				int s = size / imageScale;
+				paintShape( ig, type, 0, 0, s, s, focusWidth, lineWidth, arc );
+			} finally {
+				ig.dispose();
+			}
+			nineSlice = new NineSlice( image, c );
+			cache.put( key, nineSlice );
+		}
+		return nineSlice;
+	}
+
+	private static void paintShape( Graphics2D g, int type, int x, int y, int width, int height,
+		float focusWidth, float lineWidth, float arc )
+	{
+		switch( type ) {
+			case BACKGROUND:
+				FlatUIUtils.paintComponentBackgroundImpl( g, x, y, width, height, focusWidth, arc );
+				break;
+
+			case BORDER:
+				FlatUIUtils.paintComponentBorderImpl( g, x, y, width, height, focusWidth, lineWidth, arc );
+				break;
+
+			case OUTER_BORDER:
+				FlatUIUtils.paintComponentOuterBorderImpl( g, x, y, width, height, focusWidth, lineWidth, arc );
+				break;
+		}
+	}
+
+	//---- class NineSlice ----------------------------------------------------
+
+	/**
+	 * A rendered shape. The image contains the corners.
+	 * Outside of the corners, all pixels of an edge row (top/bottom) or
+	 * edge column (left/right) have the same color, so edges are filled
+	 * with solid colors, which is much faster than stretching parts of the image.
+	 */
+	private static class NineSlice
+	{
+		private final BufferedImage image;
+		private final int c;
+		private final Color[] topColors;
+		private final Color[] bottomColors;
+		private final Color[] leftColors;
+		private final Color[] rightColors;
+
+		NineSlice( BufferedImage image, int c ) {
+			this.image = image;
+			this.c = c;
+
+			int c2 = image.getWidth() - c;
+			topColors = new Color[c];
+			bottomColors = new Color[c];
+			leftColors = new Color[c];
+			rightColors = new Color[c];
+			for( int i = 0; i < c; i++ ) {
+				topColors[i] = edgeColor( c, i, topColors, i );
+				bottomColors[i] = edgeColor( c, c2 + i, bottomColors, i );
+				leftColors[i] = edgeColor( i, c, leftColors, i );
+				rightColors[i] = edgeColor( c2 + i, c, rightColors, i );
+			}
+		}
+
+		/**
+		 * Returns the color of the given pixel, or {@code null} if it is transparent.
+		 * Reuses the color of the previous row/column if equal,
+		 * so that equal rows/columns are filled at once.
+		 */
+		private Color edgeColor( int x, int y, Color[] colors, int i ) {
+			int rgb = image.getRGB( x, y );
+			if( (rgb >>> 24) == 0 )
+				return null;
+			if( i > 0 && colors[i - 1] != null && colors[i - 1].getRGB() == rgb )
+				return colors[i - 1];
+			return new Color( rgb, true );
+		}
+
+		/**
+		 * Paints the corners from the image and fills the edges
+		 * (and the center, if a center color is given).
+		 * Must be invoked at scale 1x.
+		 */
+		void paint( Graphics2D g, int x, int y, int width, int height, Color centerColor ) {
+/*debug
+			g.drawImage( image, x + width + 2, y, null );
+debug*/
+
+			Color oldColor = g.getColor();
+
+			int size = image.getWidth();
+			int c2 = size - c;
+
+			int x1 = x + c;
+			int y1 = y + c;
+			int x2 = x + width - c;
+			int y2 = y + height - c;
+
+			// corners
+			g.drawImage( image, x, y, x1, y1,  0, 0, c, c, null );
+			g.drawImage( image, x2, y, x2 + c, y1,  c2, 0, size, c, null );
+			g.drawImage( image, x, y2, x1, y2 + c,  0, c2, c, size, null );
+			g.drawImage( image, x2, y2, x2 + c, y2 + c,  c2, c2, size, size, null );
+
+			// edges
+			fillEdge( g, topColors, x1, y, x2 - x1, true );
+			fillEdge( g, bottomColors, x1, y2, x2 - x1, true );
+			fillEdge( g, leftColors, x, y1, y2 - y1, false );
+			fillEdge( g, rightColors, x2, y1, y2 - y1, false );
+
+			// center (borders are transparent in center)
+			if( centerColor != null ) {
+				g.setColor( centerColor );
+				g.fillRect( x1, y1, x2 - x1, y2 - y1 );
+			}
+
+			g.setColor( oldColor );
+		}
+
+		private void fillEdge( Graphics2D g, Color[] colors, int x, int y, int length, boolean horizontal ) {
+			for( int i = 0; i < c; ) {
+				Color color = colors[i];
+				int j = i + 1;
+				while( j < c && colors[j] == color )
+					j++;
+
+				if( color != null ) {
+					g.setColor( color );
+					if( horizontal )
+						g.fillRect( x, y + i, length, j - i );
+					else
+						g.fillRect( x + i, y, j - i, length );
+				}
+				i = j;
+			}
+		}
+	}
+
+	//---- class Key ----------------------------------------------------------
+
+	private static class Key
+	{
+		private final int type;
+		private final Color color;
+		private final float focusWidth;
+		private final float lineWidth;
+		private final float arc;
+		private final int imageScale;
+		private final float userScaleFactor;
+
+		Key( int type, Color color, float focusWidth, float lineWidth, float arc,
+			int imageScale, float userScaleFactor )
+		{
+			this.type = type;
+			this.color = color;
+			this.focusWidth = focusWidth;
+			this.lineWidth = lineWidth;
+			this.arc = arc;
+			this.imageScale = imageScale;
+			this.userScaleFactor = userScaleFactor;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof Key) )
+				return false;
+
+			Key key = (Key) obj;
+			return type == key.type &&
+				color.getRGB() == key.color.getRGB() &&
+				focusWidth == key.focusWidth &&
+				lineWidth == key.lineWidth &&
+				arc == key.arc &&
+				imageScale == key.imageScale &&
+				userScaleFactor == key.userScaleFactor;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = type;
+			hash = (hash * 31) + color.getRGB();
+			hash = (hash * 31) + Float.floatToIntBits( focusWidth );
+			hash = (hash * 31) + Float.floatToIntBits( lineWidth );
+			hash = (hash * 31) + Float.floatToIntBits( arc );
+			hash = (hash * 31) + imageScale;
+			hash = (hash * 31) + Float.floatToIntBits( userScaleFactor );
+			return hash;
+		}
+	}
+}
@@ -35,6 +35,7 @@ import javax.swing.plaf.basic.BasicPasswordFieldUI;
 import javax.swing.text.Caret;
 import javax.swing.text.JTextComponent;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JPasswordField}.
@@ -70,11 +71,7 @@ import com.formdev.flatlaf.util.HiDPIUtils;
 public class FlatPasswordFieldUI
 	extends BasicPasswordFieldUI
 {
-	protected int minimumWidth;
-	protected boolean isIntelliJTheme;
-	protected Color placeholderForeground;
-	protected boolean showCapsLock;
-	protected Icon capsLockIcon;
+	protected Style style;
 
 	private FocusListener focusListener;
 	private KeyListener capsLockListener;
@@ -88,11 +85,7 @@ public class FlatPasswordFieldUI
 		super.installDefaults();
 
 		String prefix = getPropertyPrefix();
-		minimumWidth = UIManager.getInt( "Component.minimumWidth" );
-		isIntelliJTheme = UIManager.getBoolean( "Component.isIntelliJTheme" );
-		placeholderForeground = UIManager.getColor( prefix + ".placeholderForeground" );
-		showCapsLock = UIManager.getBoolean( "PasswordField.showCapsLock" );
-		capsLockIcon = UIManager.getIcon( "PasswordField.capsLockIcon" );
+		style = FlatStyleCache.get( Style.class, this, r -> new Style( r, prefix ) );
 
 		LookAndFeel.installProperty( getComponent(), "opaque", false );
 
@@ -103,9 +96,6 @@ public class FlatPasswordFieldUI
 	protected void uninstallDefaults() {
 		super.uninstallDefaults();
 
-		placeholderForeground = null;
-		capsLockIcon = null;
-
 		MigLayoutVisualPadding.uninstall( getComponent() );
 	}
 
@@ -155,17 +145,25 @@ public class FlatPasswordFieldUI
 		FlatTextFieldUI.propertyChange( getComponent(), e );
 	}
 
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
+	}
+
 	@Override
 	protected void paintSafely( Graphics g ) {
-		FlatTextFieldUI.paintBackground( g, getComponent(), isIntelliJTheme );
-		FlatTextFieldUI.paintPlaceholder( g, getComponent(), placeholderForeground );
+		FlatTextFieldUI.paintBackground( g, getComponent(), style.isIntelliJTheme );
+		FlatTextFieldUI.paintPlaceholder( g, getComponent(), style.placeholderForeground );
 		paintCapsLock( g );
 
 		super.paintSafely( HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g ) );
 	}
 
 	protected void paintCapsLock( Graphics g ) {
-		if( !showCapsLock )
+		if( !style.showCapsLock )
 			return;
 
 		JTextComponent c = getComponent();
@@ -173,6 +171,7 @@ public class FlatPasswordFieldUI
 			!Toolkit.getDefaultToolkit().getLockingKeyState( KeyEvent.VK_CAPS_LOCK ) )
 		  return;
 
+		Icon capsLockIcon = style.capsLockIcon;
 		int y = (c.getHeight() - capsLockIcon.getIconHeight()) / 2;
 		int x = c.getWidth() - capsLockIcon.getIconWidth() - y;
 		capsLockIcon.paintIcon( c, g, x, y );
@@ -185,11 +184,34 @@ public class FlatPasswordFieldUI
 
 	@Override
 	public Dimension getPreferredSize( JComponent c ) {
-		return FlatTextFieldUI.applyMinimumWidth( c, super.getPreferredSize( c ), minimumWidth );
+		return FlatTextFieldUI.applyMinimumWidth( c, super.getPreferredSize( c ), style.minimumWidth );
 	}
 
 	@Override
 	public Dimension getMinimumSize( JComponent c ) {
-		return FlatTextFieldUI.applyMinimumWidth( c, super.getMinimumSize( c ), minimumWidth );
+		return FlatTextFieldUI.applyMinimumWidth( c, super.getMinimumSize( c ), style.minimumWidth );
+	}
+
+	//---- class Style --------------------------------------------------------
+
+	/**
+	 * Values from UI defaults that are shared by all password fields
+	 * (for the current look and feel).
+	 */
+	public static class Style
+	{
+		public final int minimumWidth;
+		public final boolean isIntelliJTheme;
+		public final Color placeholderForeground;
+		public final boolean showCapsLock;
+		public final Icon capsLockIcon;
+
+		Style( FlatStyleCache.Reader r, String prefix ) {
+			minimumWidth = r.getInt( "Component.minimumWidth" );
+			isIntelliJTheme = r.getBoolean( "Component.isIntelliJTheme" );
+			placeholderForeground = r.getColor( prefix + ".placeholderForeground" );
+			showCapsLock = r.getBoolean( "PasswordField.showCapsLock" );
+			capsLockIcon = r.getIcon( "PasswordField.capsLockIcon" );
+		}
 	}
 }
@@ -42,6 +42,7 @@ import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.border.Border;
 import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.SystemInfo;
 import com.formdev.flatlaf.util.UIScale;
 
@@ -49,6 +50,9 @@ import com.formdev.flatlaf.util.UIScale;
  * A popup factory that adds drop shadows to popups on Windows.
  * On macOS and Linux, heavy weight popups (without drop shadow) are produced and the
  * operating system automatically adds drop shadows.
+ * <p>
+ * If paint statistics are enabled, the time needed to create and show popups
+ * is reported (see {@link PaintStatistics#popupShown}).
  *
  * @author Karl Tauber
  */
@@ -62,6 +66,8 @@ public class FlatPopupFactory
 	public Popup getPopup( Component owner, Component contents, int x, int y )
 		throws IllegalArgumentException
 	{
+		long startTime = PaintStatistics.begin();
+
 		Point pt = fixToolTipLocation( owner, contents, x, y );
 		if( pt != null ) {
 			x = pt.x;
@@ -71,14 +77,57 @@ public class FlatPopupFactory
 		boolean forceHeavyWeight = isOptionEnabled( owner, contents, FlatClientProperties.POPUP_FORCE_HEAVY_WEIGHT, "Popup.forceHeavyWeight" );
 
 		if( !isOptionEnabled( owner, contents, FlatClientProperties.POPUP_DROP_SHADOW_PAINTED, "Popup.dropShadowPainted" ) )
-			return new NonFlashingPopup( getPopupForScreenOfOwner( owner, contents, x, y, forceHeavyWeight ), contents );
+			return new NonFlashingPopup( getPopupForScreenOfOwner( owner, contents, x, y, forceHeavyWeight ), contents, startTime );
 
 		// macOS and Linux adds drop shadow to heavy weight popups
 		if( SystemInfo.isMacOS || SystemInfo.isLinux )
-			return new NonFlashingPopup( getPopupForScreenOfOwner( owner, contents, x, y, true ), contents );
+			return new NonFlashingPopup( getPopupForScreenOfOwner( owner, contents, x, y, true ), contents, startTime );
 
 		// create drop shadow popup
-		return new DropShadowPopup( getPopupForScreenOfOwner( owner, contents, x, y, forceHeavyWeight ), owner, contents );
+		return new DropShadowPopup( getPopupForScreenOfOwner( owner, contents, x, y, forceHeavyWeight ), owner, contents, startTime );
+	}
+
+	/**
+	 * Creates the native windows of heavy weight popups for the given window in advance,
+	 * so that showing the first heavy weight popup (e.g. a menu or combo box popup that
+	 * does not fit into the window) is faster.
+	 * <p>
+	 * The popup windows are put into the popup window cache of {@link PopupFactory},
+	 * which keeps up to five popup windows per owner window and disposes them
+	 * when the owner window is closed.
+	 * On Windows, if drop shadows are painted, two popup windows are created
+	 * because the drop shadow needs an additional popup window.
+	 * <p>
+	 * Invoke this method after the window has been shown (e.g. using
+	 * {@link SwingUtilities#invokeLater(Runnable)}). Does nothing if
+	 * FlatLaf is not the current look and feel or if the window is not showing
+	 * (popup windows of invisible owner windows are not cached).
+	 *
+	 * @param window the owner window of the popups
+	 */
+	public static void warmUp( Window window ) {
+		PopupFactory factory = PopupFactory.getSharedInstance();
+		if( !(factory instanceof FlatPopupFactory) || window == null || !window.isShowing() )
+			return;
+
+		boolean dropShadow = !SystemInfo.isMacOS && !SystemInfo.isLinux &&
+			UIManager.getBoolean( "Popup.dropShadowPainted" );
+		((FlatPopupFactory)factory).warmUpImpl( window, dropShadow ? 2 : 1 );
+	}
+
+	private void warmUpImpl( Window window, int count ) {
+		// get heavy weight popups, which creates the native windows (when packed),
+		// and hide them without showing, which puts the windows into the cache
+		Popup[] popups = new Popup[count];
+		for( int i = 0; i < count; i++ ) {
+			JPanel contents = new JPanel();
+			contents.setPreferredSize( new Dimension( 1, 1 ) );
+			popups[i] = getPopupForScreenOfOwner( window, contents, window.getX(), window.getY(), true );
+		}
+		for( Popup popup : popups ) {
+			if( popup != null )
+				popup.hide();
+		}
 	}
 
 	/**
@@ -249,9 +298,13 @@ public class FlatPopupFactory
 		protected Window popupWindow;
 		private Color oldPopupWindowBackground;
 
-		NonFlashingPopup( Popup delegate, Component contents ) {
+		// paint statistics
+		private long startTime;
+
+		NonFlashingPopup( Popup delegate, Component contents, long startTime ) {
 			this.delegate = delegate;
 			this.contents = contents;
+			this.startTime = startTime;
 
 			popupWindow = SwingUtilities.windowForComponent( contents );
 			if( popupWindow != null ) {
@@ -285,6 +338,13 @@ public class FlatPopupFactory
 						}
 					}
 				}
+
+				// record time needed to create and show popup (only on first show)
+				if( startTime != 0 ) {
+					PaintStatistics.popupShown( startTime, contents,
+						contents.getWidth(), contents.getHeight() );
+					startTime = 0;
+				}
 			}
 		}
 
@@ -328,8 +388,8 @@ public class FlatPopupFactory
 		private Window dropShadowWindow;
 		private Color oldDropShadowWindowBackground;
 
-		DropShadowPopup( Popup delegate, Component owner, Component contents ) {
-			super( delegate, contents );
+		DropShadowPopup( Popup delegate, Component owner, Component contents, long startTime ) {
+			super( delegate, contents, startTime );
 			this.owner = owner;
 
 			Dimension size = contents.getPreferredSize();
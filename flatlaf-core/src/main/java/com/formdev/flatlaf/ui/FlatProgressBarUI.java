@@ -32,6 +32,7 @@ import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicProgressBarUI;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -133,6 +134,9 @@ public class FlatProgressBarUI
 
 	@Override
 	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
 		if( c.isOpaque() )
 			FlatUIUtils.paintParentBackground( g, c );
 
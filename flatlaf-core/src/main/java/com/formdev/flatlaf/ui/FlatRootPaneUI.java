@@ -45,6 +45,7 @@ import javax.swing.plaf.basic.BasicRootPaneUI;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.SystemInfo;
 import com.formdev.flatlaf.util.UIScale;
 
@@ -367,6 +368,9 @@ public class FlatRootPaneUI
 
 		@Override
 		public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+			if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+				return;
+
 			if( isWindowMaximized( c ) || FlatUIUtils.isFullScreen( c ) )
 				return;
 
@@ -403,6 +407,9 @@ public class FlatRootPaneUI
 
 		@Override
 		public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+			if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+				return;
+
 			if( showBorder( c ) ) {
 				float lineHeight = UIScale.scale( (float) 1 );
 				FlatUIUtils.paintFilledRectangle( g, borderColor, x, y, width, lineHeight );
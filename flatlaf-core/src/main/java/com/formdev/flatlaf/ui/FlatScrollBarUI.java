@@ -36,6 +36,7 @@ import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -76,23 +77,7 @@ import com.formdev.flatlaf.util.UIScale;
 public class FlatScrollBarUI
 	extends BasicScrollBarUI
 {
-	protected Insets trackInsets;
-	protected Insets thumbInsets;
-	protected int trackArc;
-	protected int thumbArc;
-	protected Color hoverTrackColor;
-	protected Color hoverThumbColor;
-	protected boolean hoverThumbWithTrack;
-	protected Color pressedTrackColor;
-	protected Color pressedThumbColor;
-	protected boolean pressedThumbWithTrack;
-
-	protected boolean showButtons;
-	protected String arrowType;
-	protected Color buttonArrowColor;
-	protected Color buttonDisabledArrowColor;
-	protected Color hoverButtonBackground;
-	protected Color pressedButtonBackground;
+	protected Style style;
 
 	private MouseAdapter hoverListener;
 	protected boolean hoverTrack;
@@ -124,46 +109,7 @@ public class FlatScrollBarUI
 	protected void installDefaults() {
 		super.installDefaults();
 
-		trackInsets = UIManager.getInsets( "ScrollBar.trackInsets" );
-		thumbInsets = UIManager.getInsets( "ScrollBar.thumbInsets" );
-		trackArc = UIManager.getInt( "ScrollBar.trackArc" );
-		thumbArc = UIManager.getInt( "ScrollBar.thumbArc" );
-		hoverTrackColor = UIManager.getColor( "ScrollBar.hoverTrackColor" );
-		hoverThumbColor = UIManager.getColor( "ScrollBar.hoverThumbColor" );
-		hoverThumbWithTrack = UIManager.getBoolean( "ScrollBar.hoverThumbWithTrack" );
-		pressedTrackColor = UIManager.getColor( "ScrollBar.pressedTrackColor" );
-		pressedThumbColor = UIManager.getColor( "ScrollBar.pressedThumbColor" );
-		pressedThumbWithTrack = UIManager.getBoolean( "ScrollBar.pressedThumbWithTrack" );
-
-		showButtons = UIManager.getBoolean( "ScrollBar.showButtons" );
-		arrowType = UIManager.getString( "Component.arrowType" );
-		buttonArrowColor = UIManager.getColor( "ScrollBar.buttonArrowColor" );
-		buttonDisabledArrowColor = UIManager.getColor( "ScrollBar.buttonDisabledArrowColor" );
-		hoverButtonBackground = UIManager.getColor( "ScrollBar.hoverButtonBackground" );
-		pressedButtonBackground = UIManager.getColor( "ScrollBar.pressedButtonBackground" );
-
-		// fallback (e.g. when used in NetBeans GUI builder)
-		if( trackInsets == null )
-			trackInsets = new Insets( 0, 0, 0, 0 );
-		if( thumbInsets == null )
-			thumbInsets = new Insets( 0, 0, 0, 0 );
-	}
-
-	@Override
-	protected void uninstallDefaults() {
-		super.uninstallDefaults();
-
-		trackInsets = null;
-		thumbInsets = null;
-		hoverTrackColor = null;
-		hoverThumbColor = null;
-		pressedTrackColor = null;
-		pressedThumbColor = null;
-
-		buttonArrowColor = null;
-		buttonDisabledArrowColor = null;
-		hoverButtonBackground = null;
-		pressedButtonBackground = null;
+		style = FlatStyleCache.get( Style.class, this, Style::new );
 	}
 
 	@Override
@@ -215,7 +161,15 @@ public class FlatScrollBarUI
 		Object showButtons = scrollbar.getClientProperty( FlatClientProperties.SCROLL_BAR_SHOW_BUTTONS );
 		if( showButtons == null && scrollbar.getParent() instanceof JScrollPane )
 			showButtons = ((JScrollPane)scrollbar.getParent()).getClientProperty( FlatClientProperties.SCROLL_BAR_SHOW_BUTTONS );
-		return (showButtons != null) ? Objects.equals( showButtons, true ) : this.showButtons;
+		return (showButtons != null) ? Objects.equals( showButtons, true ) : style.showButtons;
+	}
+
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
 	}
 
 	@Override
@@ -228,7 +182,7 @@ public class FlatScrollBarUI
 	@Override
 	protected void paintTrack( Graphics g, JComponent c, Rectangle trackBounds ) {
 		g.setColor( getTrackColor( c, hoverTrack, isPressed && hoverTrack && !hoverThumb ) );
-		paintTrackOrThumb( g, c, trackBounds, trackInsets, trackArc );
+		paintTrackOrThumb( g, c, trackBounds, style.trackInsets, style.trackArc );
 	}
 
 	@Override
@@ -236,9 +190,9 @@ public class FlatScrollBarUI
 		if( thumbBounds.isEmpty() || !scrollbar.isEnabled() )
 			return;
 
-		g.setColor( getThumbColor( c, hoverThumb || (hoverThumbWithTrack && hoverTrack),
-			isPressed && (hoverThumb || (pressedThumbWithTrack && hoverTrack)) ) );
-		paintTrackOrThumb( g, c, thumbBounds, thumbInsets, thumbArc );
+		g.setColor( getThumbColor( c, hoverThumb || (style.hoverThumbWithTrack && hoverTrack),
+			isPressed && (hoverThumb || (style.pressedThumbWithTrack && hoverTrack)) ) );
+		paintTrackOrThumb( g, c, thumbBounds, style.thumbInsets, style.thumbArc );
 	}
 
 	protected void paintTrackOrThumb( Graphics g, JComponent c, Rectangle bounds, Insets insets, int arc ) {
@@ -271,31 +225,31 @@ public class FlatScrollBarUI
 
 	protected Color getTrackColor( JComponent c, boolean hover, boolean pressed ) {
 		Color trackColor = FlatUIUtils.deriveColor( this.trackColor, c.getBackground() );
-		return (pressed && pressedTrackColor != null)
-			? FlatUIUtils.deriveColor( pressedTrackColor, trackColor )
-			: ((hover && hoverTrackColor != null)
-				? FlatUIUtils.deriveColor( hoverTrackColor, trackColor )
+		return (pressed && style.pressedTrackColor != null)
+			? FlatUIUtils.deriveColor( style.pressedTrackColor, trackColor )
+			: ((hover && style.hoverTrackColor != null)
+				? FlatUIUtils.deriveColor( style.hoverTrackColor, trackColor )
 				: trackColor);
 	}
 
 	protected Color getThumbColor( JComponent c, boolean hover, boolean pressed ) {
 		Color trackColor = FlatUIUtils.deriveColor( this.trackColor, c.getBackground() );
 		Color thumbColor = FlatUIUtils.deriveColor( this.thumbColor, trackColor );
-		return (pressed && pressedThumbColor != null)
-			? FlatUIUtils.deriveColor( pressedThumbColor, thumbColor )
-			: ((hover && hoverThumbColor != null)
-				? FlatUIUtils.deriveColor( hoverThumbColor, thumbColor )
+		return (pressed && style.pressedThumbColor != null)
+			? FlatUIUtils.deriveColor( style.pressedThumbColor, thumbColor )
+			: ((hover && style.hoverThumbColor != null)
+				? FlatUIUtils.deriveColor( style.hoverThumbColor, thumbColor )
 				: thumbColor);
 	}
 
 	@Override
 	protected Dimension getMinimumThumbSize() {
-		return UIScale.scale( FlatUIUtils.addInsets( super.getMinimumThumbSize(), thumbInsets ) );
+		return UIScale.scale( FlatUIUtils.addInsets( super.getMinimumThumbSize(), style.thumbInsets ) );
 	}
 
 	@Override
 	protected Dimension getMaximumThumbSize() {
-		return UIScale.scale( FlatUIUtils.addInsets( super.getMaximumThumbSize(), thumbInsets ) );
+		return UIScale.scale( FlatUIUtils.addInsets( super.getMaximumThumbSize(), style.thumbInsets ) );
 	}
 
 	//---- class ScrollBarHoverListener ---------------------------------------
@@ -356,8 +310,8 @@ public class FlatScrollBarUI
 		extends FlatArrowButton
 	{
 		protected FlatScrollBarButton( int direction ) {
-			this( direction, arrowType, buttonArrowColor, buttonDisabledArrowColor,
-				null, hoverButtonBackground, null, pressedButtonBackground );
+			this( direction, style.arrowType, style.buttonArrowColor, style.buttonDisabledArrowColor,
+				null, style.hoverButtonBackground, null, style.pressedButtonBackground );
 		}
 
 		protected FlatScrollBarButton( int direction, String type, Color foreground, Color disabledForeground,
@@ -395,4 +349,55 @@ public class FlatScrollBarUI
 			return isShowButtons() ? super.getMaximumSize() : new Dimension();
 		}
 	}
+
+	//---- class Style --------------------------------------------------------
+
+	/**
+	 * Values from UI defaults that are shared by all scroll bars
+	 * (for the current look and feel).
+	 */
+	public static class Style
+	{
+		public final Insets trackInsets;
+		public final Insets thumbInsets;
+		public final int trackArc;
+		public final int thumbArc;
+		public final Color hoverTrackColor;
+		public final Color hoverThumbColor;
+		public final boolean hoverThumbWithTrack;
+		public final Color pressedTrackColor;
+		public final Color pressedThumbColor;
+		public final boolean pressedThumbWithTrack;
+
+		public final boolean showButtons;
+		public final String arrowType;
+		public final Color buttonArrowColor;
+		public final Color buttonDisabledArrowColor;
+		public final Color hoverButtonBackground;
+		public final Color pressedButtonBackground;
+
+		Style( FlatStyleCache.Reader r ) {
+			Insets trackInsets = r.getInsets( "ScrollBar.trackInsets" );
+			Insets thumbInsets = r.getInsets( "ScrollBar.thumbInsets" );
+			trackArc = r.getInt( "ScrollBar.trackArc" );
+			thumbArc = r.getInt( "ScrollBar.thumbArc" );
+			hoverTrackColor = r.getColor( "ScrollBar.hoverTrackColor" );
+			hoverThumbColor = r.getColor( "ScrollBar.hoverThumbColor" );
+			hoverThumbWithTrack = r.getBoolean( "ScrollBar.hoverThumbWithTrack" );
+			pressedTrackColor = r.getColor( "ScrollBar.pressedTrackColor" );
+			pressedThumbColor = r.getColor( "ScrollBar.pressedThumbColor" );
+			pressedThumbWithTrack = r.getBoolean( "ScrollBar.pressedThumbWithTrack" );
+
+			showButtons = r.getBoolean( "ScrollBar.showButtons" );
+			arrowType = r.getString( "Component.arrowType" );
+			buttonArrowColor = r.getColor( "ScrollBar.buttonArrowColor" );
+			buttonDisabledArrowColor = r.getColor( "ScrollBar.buttonDisabledArrowColor" );
+			hoverButtonBackground = r.getColor( "ScrollBar.hoverButtonBackground" );
+			pressedButtonBackground = r.getColor( "ScrollBar.pressedButtonBackground" );
+
+			// fallback (e.g. when used in NetBeans GUI builder)
+			this.trackInsets = (trackInsets != null) ? trackInsets : new Insets( 0, 0, 0, 0 );
+			this.thumbInsets = (thumbInsets != null) ? thumbInsets : new Insets( 0, 0, 0, 0 );
+		}
+	}
 }
@@ -43,6 +43,9 @@ import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicScrollPaneUI;
 import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.util.Animator;
+import com.formdev.flatlaf.util.CubicBezierEasing;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JScrollPane}.
@@ -65,6 +68,7 @@ public class FlatScrollPaneUI
 	extends BasicScrollPaneUI
 {
 	private Handler handler;
+	private SmoothScroller smoothScroller;
 
 	public static ComponentUI createUI( JComponent c ) {
 		return new FlatScrollPaneUI();
@@ -101,6 +105,11 @@ public class FlatScrollPaneUI
 		removeViewportListeners( scrollpane.getViewport() );
 
 		handler = null;
+
+		if( smoothScroller != null ) {
+			smoothScroller.cancel();
+			smoothScroller = null;
+		}
 	}
 
 	@Override
@@ -216,7 +225,9 @@ public class FlatScrollPaneUI
 		int newValue = Math.max( minValue, Math.min( value + idelta, maxValue ) );
 
 		// set new value
-		if( newValue != value )
+		if( Animator.useAnimation() )
+			getSmoothScroller().scrollBy( scrollbar, idelta, minValue, maxValue );
+		else if( newValue != value )
 			scrollbar.setValue( newValue );
 
 /*debug
@@ -278,6 +289,12 @@ public class FlatScrollPaneUI
 		};
 	}
 
+	private SmoothScroller getSmoothScroller() {
+		if( smoothScroller == null )
+			smoothScroller = new SmoothScroller();
+		return smoothScroller;
+	}
+
 	private Handler getHandler() {
 		if( handler == null )
 			handler = new Handler();
@@ -319,6 +336,9 @@ public class FlatScrollPaneUI
 
 	@Override
 	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
 		if( c.isOpaque() ) {
 			FlatUIUtils.paintParentBackground( g, c );
 
@@ -362,4 +382,97 @@ public class FlatScrollPaneUI
 			scrollpane.repaint();
 		}
 	}
+
+	//---- class SmoothScroller -----------------------------------------------
+
+	/**
+	 * Animates scroll bar value changes caused by precise mouse wheel events
+	 * (e.g. from trackpads).
+	 * <p>
+	 * Wheel events only accumulate the scroll delta into the target value.
+	 * The scroll bar value is changed only on animation timing events,
+	 * which merges many (high-frequency) wheel events into one scroll step
+	 * (and one repaint) per animation frame.
+	 * <p>
+	 * Each wheel event restarts the easing from the current value to the new
+	 * target value, so the scrolling follows the user without jumps.
+	 */
+	private static class SmoothScroller
+		implements Animator.TimingTarget
+	{
+		// using same duration and resolution as in FlatTabbedPaneUI
+		private static final int DURATION = 200;
+		private static final int RESOLUTION = 10;
+
+		private final Animator animator;
+		private final Animator.Interpolator interpolator = new CubicBezierEasing( 0.5f, 0.5f, 0.5f, 1 );
+
+		private JScrollBar scrollbar;
+		private int startValue;
+		private int targetValue;
+		private int lastValue;
+		private long startTime;
+
+		SmoothScroller() {
+			// animation is stopped in timingEvent() when target value is reached
+			// (the animator duration is not used because each wheel event extends the animation)
+			animator = new Animator( Integer.MAX_VALUE, this );
+			animator.setResolution( RESOLUTION );
+		}
+
+		void scrollBy( JScrollBar scrollbar, int delta, int minValue, int maxValue ) {
+			if( animator.isRunning() && scrollbar != this.scrollbar )
+				animator.stop();
+
+			int value = scrollbar.getValue();
+			boolean running = animator.isRunning();
+			int newTargetValue = Math.max( minValue, Math.min( (running ? targetValue : value) + delta, maxValue ) );
+			if( newTargetValue == (running ? targetValue : value) )
+				return;
+
+			this.scrollbar = scrollbar;
+			startValue = value;
+			targetValue = newTargetValue;
+			lastValue = value;
+			startTime = System.nanoTime() / 1000000;
+
+			if( !running )
+				animator.start();
+		}
+
+		void cancel() {
+			animator.cancel();
+			scrollbar = null;
+		}
+
+		@Override
+		public void timingEvent( float fraction ) {
+			// stop animation if scroll bar is no longer showing
+			// or if value was changed by someone else (e.g. dragging scroll bar thumb)
+			int value = scrollbar.getValue();
+			if( !scrollbar.isShowing() || value != lastValue ) {
+				animator.cancel();
+				return;
+			}
+
+			long elapsedTime = (System.nanoTime() / 1000000) - startTime;
+			float f = Math.min( (float) elapsedTime / DURATION, 1 );
+			int newValue = startValue + Math.round( (targetValue - startValue) * interpolator.interpolate( f ) );
+
+			if( newValue != value ) {
+				scrollbar.setValue( newValue );
+				lastValue = scrollbar.getValue();
+			}
+
+			if( f >= 1 || lastValue == targetValue )
+				animator.stop();
+		}
+
+		@Override
+		public void end() {
+			// make sure that target value is reached
+			if( scrollbar != null && scrollbar.getValue() == lastValue && lastValue != targetValue )
+				scrollbar.setValue( targetValue );
+		}
+	}
 }
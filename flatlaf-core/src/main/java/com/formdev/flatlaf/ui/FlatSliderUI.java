@@ -35,6 +35,7 @@ import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicSliderUI;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -74,25 +75,7 @@ import com.formdev.flatlaf.util.UIScale;
 public class FlatSliderUI
 	extends BasicSliderUI
 {
-	protected int trackWidth;
-	protected Dimension thumbSize;
-	protected int focusWidth;
-
-	protected Color trackValueColor;
-	protected Color trackColor;
-	protected Color thumbColor;
-	protected Color thumbBorderColor;
-	protected Color focusBaseColor;
-	protected Color focusedColor;
-	protected Color focusedThumbBorderColor;
-	protected Color hoverThumbColor;
-	protected Color pressedThumbColor;
-	protected Color disabledTrackColor;
-	protected Color disabledThumbColor;
-	protected Color disabledThumbBorderColor;
-
-	private Color defaultBackground;
-	private Color defaultForeground;
+	protected Style style;
 
 	protected boolean thumbHover;
 	protected boolean thumbPressed;
@@ -113,51 +96,7 @@ public class FlatSliderUI
 
 		LookAndFeel.installProperty( slider, "opaque", false );
 
-		trackWidth = UIManager.getInt( "Slider.trackWidth" );
-		thumbSize = UIManager.getDimension( "Slider.thumbSize" );
-		if( thumbSize == null ) {
-			// fallback for compatibility with old versions
-			int thumbWidth = UIManager.getInt( "Slider.thumbWidth" );
-			thumbSize = new Dimension( thumbWidth, thumbWidth );
-		}
-		focusWidth = FlatUIUtils.getUIInt( "Slider.focusWidth", 4 );
-
-		trackValueColor = FlatUIUtils.getUIColor( "Slider.trackValueColor", "Slider.thumbColor" );
-		trackColor = UIManager.getColor( "Slider.trackColor" );
-		thumbColor = UIManager.getColor( "Slider.thumbColor" );
-		thumbBorderColor = UIManager.getColor( "Slider.thumbBorderColor" );
-		focusBaseColor = UIManager.getColor( "Component.focusColor" );
-		focusedColor = FlatUIUtils.getUIColor( "Slider.focusedColor", focusBaseColor );
-		focusedThumbBorderColor = FlatUIUtils.getUIColor( "Slider.focusedThumbBorderColor", "Component.focusedBorderColor" );
-		hoverThumbColor = UIManager.getColor( "Slider.hoverThumbColor" );
-		pressedThumbColor = UIManager.getColor( "Slider.pressedThumbColor" );
-		disabledTrackColor = UIManager.getColor( "Slider.disabledTrackColor" );
-		disabledThumbColor = UIManager.getColor( "Slider.disabledThumbColor" );
-		disabledThumbBorderColor = FlatUIUtils.getUIColor( "Slider.disabledThumbBorderColor", "Component.disabledBorderColor" );
-
-		defaultBackground = UIManager.getColor( "Slider.background" );
-		defaultForeground = UIManager.getColor( "Slider.foreground" );
-	}
-
-	@Override
-	protected void uninstallDefaults( JSlider slider ) {
-		super.uninstallDefaults( slider );
-
-		trackValueColor = null;
-		trackColor = null;
-		thumbColor = null;
-		thumbBorderColor = null;
-		focusBaseColor = null;
-		focusedColor = null;
-		focusedThumbBorderColor = null;
-		hoverThumbColor = null;
-		pressedThumbColor = null;
-		disabledTrackColor = null;
-		disabledThumbColor = null;
-		disabledThumbBorderColor = null;
-
-		defaultBackground = null;
-		defaultForeground = null;
+		style = FlatStyleCache.get( Style.class, this, Style::new );
 	}
 
 	@Override
@@ -208,7 +147,7 @@ public class FlatSliderUI
 
 	@Override
 	protected Dimension getThumbSize() {
-		return calcThumbSize( slider, thumbSize, focusWidth );
+		return calcThumbSize( slider, style.thumbSize, style.focusWidth );
 	}
 
 	public static Dimension calcThumbSize( JSlider slider, Dimension thumbSize, int focusWidth ) {
@@ -220,6 +159,14 @@ public class FlatSliderUI
 			: new Dimension( h, w );
 	}
 
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
+	}
+
 	@Override
 	public void paint( Graphics g, JComponent c ) {
 		oldRenderingHints = FlatUIUtils.setRenderingHints( g );
@@ -262,7 +209,7 @@ debug*/
 	@Override
 	public void paintTrack( Graphics g ) {
 		boolean enabled = slider.isEnabled();
-		float tw = UIScale.scale( (float) trackWidth );
+		float tw = UIScale.scale( (float) style.trackWidth );
 		float arc = tw;
 
 		RoundRectangle2D coloredTrack = null;
@@ -302,7 +249,7 @@ debug*/
 			((Graphics2D)g).fill( coloredTrack );
 		}
 
-		g.setColor( enabled ? getTrackColor() : disabledTrackColor );
+		g.setColor( enabled ? getTrackColor() : style.disabledTrackColor );
 		((Graphics2D)g).fill( track );
 	}
 
@@ -310,18 +257,18 @@ debug*/
 	public void paintThumb( Graphics g ) {
 		Color thumbColor = getThumbColor();
 		Color color = stateColor( slider, thumbHover, thumbPressed,
-			thumbColor, disabledThumbColor, null, hoverThumbColor, pressedThumbColor );
+			thumbColor, style.disabledThumbColor, null, style.hoverThumbColor, style.pressedThumbColor );
 		color = FlatUIUtils.deriveColor( color, thumbColor );
 
 		Color foreground = slider.getForeground();
-		Color borderColor = (thumbBorderColor != null && foreground == defaultForeground)
-			? stateColor( slider, false, false, thumbBorderColor, disabledThumbBorderColor, focusedThumbBorderColor, null, null )
+		Color borderColor = (style.thumbBorderColor != null && foreground == style.defaultForeground)
+			? stateColor( slider, false, false, style.thumbBorderColor, style.disabledThumbBorderColor, style.focusedThumbBorderColor, null, null )
 			: null;
 
-		Color focusedColor = FlatUIUtils.deriveColor( this.focusedColor,
-			(foreground != defaultForeground) ? foreground : focusBaseColor );
+		Color focusedColor = FlatUIUtils.deriveColor( style.focusedColor,
+			(foreground != style.defaultForeground) ? foreground : style.focusBaseColor );
 
-		paintThumb( g, slider, thumbRect, isRoundThumb(), color, borderColor, focusedColor, focusWidth );
+		paintThumb( g, slider, thumbRect, isRoundThumb(), color, borderColor, focusedColor, style.focusWidth );
 	}
 
 	public static void paintThumb( Graphics g, JSlider slider, Rectangle thumbRect, boolean roundThumb,
@@ -450,17 +397,17 @@ debug*/
 
 	protected Color getTrackValueColor() {
 		Color foreground = slider.getForeground();
-		return (foreground != defaultForeground) ? foreground : trackValueColor;
+		return (foreground != style.defaultForeground) ? foreground : style.trackValueColor;
 	}
 
 	protected Color getTrackColor() {
 		Color backround = slider.getBackground();
-		return (backround != defaultBackground) ? backround : trackColor;
+		return (backround != style.defaultBackground) ? backround : style.trackColor;
 	}
 
 	protected Color getThumbColor() {
 		Color foreground = slider.getForeground();
-		return (foreground != defaultForeground) ? foreground : thumbColor;
+		return (foreground != style.defaultForeground) ? foreground : style.thumbColor;
 	}
 
 	public static Color stateColor( JSlider slider, boolean hover, boolean pressed,
@@ -493,7 +440,7 @@ debug*/
 			SwingUtilities.computeUnion( thumbRect.x, thumbRect.y, thumbRect.width, thumbRect.height, r );
 
 			// increase union rectangle for repaint
-			int extra = (int) Math.ceil( UIScale.scale( focusWidth ) * 0.4142f );
+			int extra = (int) Math.ceil( UIScale.scale( style.focusWidth ) * 0.4142f );
 			if( slider.getOrientation() == JSlider.HORIZONTAL )
 				r.height += extra;
 			else {
@@ -614,4 +561,61 @@ debug*/
 			return e != null && slider.isEnabled() && thumbRect.contains( e.getX(), e.getY() );
 		}
 	}
+
+	//---- class Style --------------------------------------------------------
+
+	/**
+	 * Values from UI defaults that are shared by all sliders
+	 * (for the current look and feel).
+	 */
+	public static class Style
+	{
+		public final int trackWidth;
+		public final Dimension thumbSize;
+		public final int focusWidth;
+
+		public final Color trackValueColor;
+		public final Color trackColor;
+		public final Color thumbColor;
+		public final Color thumbBorderColor;
+		public final Color focusBaseColor;
+		public final Color focusedColor;
+		public final Color focusedThumbBorderColor;
+		public final Color hoverThumbColor;
+		public final Color pressedThumbColor;
+		public final Color disabledTrackColor;
+		public final Color disabledThumbColor;
+		public final Color disabledThumbBorderColor;
+
+		final Color defaultBackground;
+		final Color defaultForeground;
+
+		Style( FlatStyleCache.Reader r ) {
+			trackWidth = r.getInt( "Slider.trackWidth" );
+			Dimension thumbSize = r.getDimension( "Slider.thumbSize" );
+			if( thumbSize == null ) {
+				// fallback for compatibility with old versions
+				int thumbWidth = r.getInt( "Slider.thumbWidth" );
+				thumbSize = new Dimension( thumbWidth, thumbWidth );
+			}
+			this.thumbSize = thumbSize;
+			focusWidth = r.getInt( "Slider.focusWidth", 4 );
+
+			trackValueColor = r.getColor( "Slider.trackValueColor", "Slider.thumbColor" );
+			trackColor = r.getColor( "Slider.trackColor" );
+			thumbColor = r.getColor( "Slider.thumbColor" );
+			thumbBorderColor = r.getColor( "Slider.thumbBorderColor" );
+			focusBaseColor = r.getColor( "Component.focusColor" );
+			focusedColor = r.getColor( "Slider.focusedColor", focusBaseColor );
+			focusedThumbBorderColor = r.getColor( "Slider.focusedThumbBorderColor", "Component.focusedBorderColor" );
+			hoverThumbColor = r.getColor( "Slider.hoverThumbColor" );
+			pressedThumbColor = r.getColor( "Slider.pressedThumbColor" );
+			disabledTrackColor = r.getColor( "Slider.disabledTrackColor" );
+			disabledThumbColor = r.getColor( "Slider.disabledThumbColor" );
+			disabledThumbBorderColor = r.getColor( "Slider.disabledThumbBorderColor", "Component.disabledBorderColor" );
+
+			defaultBackground = r.getColor( "Slider.background" );
+			defaultForeground = r.getColor( "Slider.foreground" );
+		}
+	}
 }
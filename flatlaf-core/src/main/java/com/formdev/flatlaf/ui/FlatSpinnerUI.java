@@ -37,10 +37,10 @@ import javax.swing.JSpinner;
 import javax.swing.JTextField;
 import javax.swing.LookAndFeel;
 import javax.swing.SwingConstants;
-import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicSpinnerUI;
 import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JSpinner}.
@@ -79,20 +79,7 @@ public class FlatSpinnerUI
 {
 	private Handler handler;
 
-	protected int minimumWidth;
-	protected String buttonStyle;
-	protected String arrowType;
-	protected boolean isIntelliJTheme;
-	protected Color borderColor;
-	protected Color disabledBorderColor;
-	protected Color disabledBackground;
-	protected Color disabledForeground;
-	protected Color buttonBackground;
-	protected Color buttonArrowColor;
-	protected Color buttonDisabledArrowColor;
-	protected Color buttonHoverArrowColor;
-	protected Color buttonPressedArrowColor;
-	protected Insets padding;
+	protected Style style;
 
 	public static ComponentUI createUI( JComponent c ) {
 		return new FlatSpinnerUI();
@@ -104,23 +91,7 @@ public class FlatSpinnerUI
 
 		LookAndFeel.installProperty( spinner, "opaque", false );
 
-		minimumWidth = UIManager.getInt( "Component.minimumWidth" );
-		buttonStyle = UIManager.getString( "Spinner.buttonStyle" );
-		arrowType = UIManager.getString( "Component.arrowType" );
-		isIntelliJTheme = UIManager.getBoolean( "Component.isIntelliJTheme" );
-		borderColor = UIManager.getColor( "Component.borderColor" );
-		disabledBorderColor = UIManager.getColor( "Component.disabledBorderColor" );
-		disabledBackground = UIManager.getColor( "Spinner.disabledBackground" );
-		disabledForeground = UIManager.getColor( "Spinner.disabledForeground" );
-		buttonBackground = UIManager.getColor( "Spinner.buttonBackground" );
-		buttonArrowColor = UIManager.getColor( "Spinner.buttonArrowColor" );
-		buttonDisabledArrowColor = UIManager.getColor( "Spinner.buttonDisabledArrowColor" );
-		buttonHoverArrowColor = UIManager.getColor( "Spinner.buttonHoverArrowColor" );
-		buttonPressedArrowColor = UIManager.getColor( "Spinner.buttonPressedArrowColor" );
-		padding = UIManager.getInsets( "Spinner.padding" );
-
-		// scale
-		padding = scale( padding );
+		style = FlatStyleCache.get( Style.class, this, Style::new );
 
 		MigLayoutVisualPadding.install( spinner );
 	}
@@ -129,17 +100,6 @@ public class FlatSpinnerUI
 	protected void uninstallDefaults() {
 		super.uninstallDefaults();
 
-		borderColor = null;
-		disabledBorderColor = null;
-		disabledBackground = null;
-		disabledForeground = null;
-		buttonBackground = null;
-		buttonArrowColor = null;
-		buttonDisabledArrowColor = null;
-		buttonHoverArrowColor = null;
-		buttonPressedArrowColor = null;
-		padding = null;
-
 		MigLayoutVisualPadding.uninstall( spinner );
 	}
 
@@ -224,11 +184,11 @@ public class FlatSpinnerUI
 	protected Color getBackground( boolean enabled ) {
 		return enabled
 			? spinner.getBackground()
-			: (isIntelliJTheme ? FlatUIUtils.getParentBackground( spinner ) : disabledBackground);
+			: (style.isIntelliJTheme ? FlatUIUtils.getParentBackground( spinner ) : style.disabledBackground);
 	}
 
 	protected Color getForeground( boolean enabled ) {
-		return enabled ? spinner.getForeground() : disabledForeground;
+		return enabled ? spinner.getForeground() : style.disabledForeground;
 	}
 
 	@Override
@@ -247,8 +207,8 @@ public class FlatSpinnerUI
 	}
 
 	private Component createArrowButton( int direction, String name ) {
-		FlatArrowButton button = new FlatArrowButton( direction, arrowType, buttonArrowColor,
-			buttonDisabledArrowColor, buttonHoverArrowColor, null, buttonPressedArrowColor, null );
+		FlatArrowButton button = new FlatArrowButton( direction, style.arrowType, style.buttonArrowColor,
+			style.buttonDisabledArrowColor, style.buttonHoverArrowColor, null, style.buttonPressedArrowColor, null );
 		button.setName( name );
 		button.setYOffset( (direction == SwingConstants.NORTH) ? 1 : -1 );
 		if( direction == SwingConstants.NORTH )
@@ -260,6 +220,9 @@ public class FlatSpinnerUI
 
 	@Override
 	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
 		float focusWidth = FlatUIUtils.getBorderFocusWidth( c );
 		float arc = FlatUIUtils.getBorderArc( c );
 
@@ -279,7 +242,7 @@ public class FlatSpinnerUI
 		FlatUIUtils.paintComponentBackground( g2, 0, 0, width, height, focusWidth, arc );
 
 		// paint button background and separator
-		boolean paintButton = !"none".equals( buttonStyle );
+		boolean paintButton = !"none".equals( style.buttonStyle );
 		Handler handler = getHandler();
 		if( paintButton && (handler.nextButton != null || handler.previousButton != null) ) {
 			Component button = (handler.nextButton != null) ? handler.nextButton : handler.previousButton;
@@ -289,7 +252,7 @@ public class FlatSpinnerUI
 
 			// paint arrow buttons background
 			if( enabled ) {
-				g2.setColor( buttonBackground );
+				g2.setColor( style.buttonBackground );
 				Shape oldClip = g2.getClip();
 				if( isLeftToRight )
 					g2.clipRect( arrowX, 0, width - arrowX, height );
@@ -300,7 +263,7 @@ public class FlatSpinnerUI
 			}
 
 			// paint vertical line between value and arrow buttons
-			g2.setColor( enabled ? borderColor : disabledBorderColor );
+			g2.setColor( enabled ? style.borderColor : style.disabledBorderColor );
 			float lw = scale( 1f );
 			float lx = isLeftToRight ? arrowX : arrowX + arrowWidth - lw;
 			g2.fill( new Rectangle2D.Float( lx, focusWidth, lw, height - 1 - (focusWidth * 2) ) );
@@ -347,7 +310,8 @@ public class FlatSpinnerUI
 			Dimension editorSize = (editor != null) ? editor.getPreferredSize() : new Dimension( 0, 0 );
 
 			// the arrows width is the same as the inner height so that the arrows area is square
-			int minimumWidth = FlatUIUtils.minimumWidth( spinner, FlatSpinnerUI.this.minimumWidth );
+			Insets padding = scale( style.padding );
+			int minimumWidth = FlatUIUtils.minimumWidth( spinner, style.minimumWidth );
 			int innerHeight = editorSize.height + padding.top + padding.bottom;
 			float focusWidth = FlatUIUtils.getBorderFocusWidth( spinner );
 			return new Dimension(
@@ -365,6 +329,7 @@ public class FlatSpinnerUI
 			Dimension size = parent.getSize();
 			Insets insets = parent.getInsets();
 			Rectangle r = FlatUIUtils.subtractInsets( new Rectangle( size ), insets );
+			Insets padding = scale( style.padding );
 
 			if( nextButton == null && previousButton == null ) {
 				if( editor != null )
@@ -440,4 +405,45 @@ public class FlatSpinnerUI
 			}
 		}
 	}
+
+	//---- class Style --------------------------------------------------------
+
+	/**
+	 * Values from UI defaults that are shared by all spinners
+	 * (for the current look and feel).
+	 */
+	public static class Style
+	{
+		public final int minimumWidth;
+		public final String buttonStyle;
+		public final String arrowType;
+		public final boolean isIntelliJTheme;
+		public final Color borderColor;
+		public final Color disabledBorderColor;
+		public final Color disabledBackground;
+		public final Color disabledForeground;
+		public final Color buttonBackground;
+		public final Color buttonArrowColor;
+		public final Color buttonDisabledArrowColor;
+		public final Color buttonHoverArrowColor;
+		public final Color buttonPressedArrowColor;
+		public final Insets padding;
+
+		Style( FlatStyleCache.Reader r ) {
+			minimumWidth = r.getInt( "Component.minimumWidth" );
+			buttonStyle = r.getString( "Spinner.buttonStyle" );
+			arrowType = r.getString( "Component.arrowType" );
+			isIntelliJTheme = r.getBoolean( "Component.isIntelliJTheme" );
+			borderColor = r.getColor( "Component.borderColor" );
+			disabledBorderColor = r.getColor( "Component.disabledBorderColor" );
+			disabledBackground = r.getColor( "Spinner.disabledBackground" );
+			disabledForeground = r.getColor( "Spinner.disabledForeground" );
+			buttonBackground = r.getColor( "Spinner.buttonBackground" );
+			buttonArrowColor = r.getColor( "Spinner.buttonArrowColor" );
+			buttonDisabledArrowColor = r.getColor( "Spinner.buttonDisabledArrowColor" );
+			buttonHoverArrowColor = r.getColor( "Spinner.buttonHoverArrowColor" );
+			buttonPressedArrowColor = r.getColor( "Spinner.buttonPressedArrowColor" );
+			padding = r.getInsets( "Spinner.padding" );
+		}
+	}
 }
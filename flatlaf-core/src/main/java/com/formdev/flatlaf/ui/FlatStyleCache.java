@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Insets;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import javax.swing.Icon;
+import javax.swing.LookAndFeel;
+import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+import javax.swing.plaf.ComponentUI;
+
+/**
+ * Caches style objects of UI delegates. A style object contains the values
+ * from UI defaults that a UI delegate uses (e.g. colors, insets and sizes).
+ * <p>
+ * A style object is created once per look and feel, style class and delegate class
+ * and shared by all instances of the delegate class. So installing a UI delegate
+ * uses the shared style object instead of looking up (and building keys for)
+ * each value in UI defaults again.
+ * <p>
+ * The keys that are read when creating a style object are recorded.
+ * If one of these keys is changed in the look and feel defaults or in the
+ * developer defaults (e.g. using {@link UIManager#put(Object, Object)}),
+ * the style object is removed from the cache and created again on next usage.
+ * All style objects of a look and feel are removed if its UI defaults are
+ * replaced (e.g. when setting the look and feel again).
+ * <p>
+ * Style objects must not depend on a component and must not be modified after creation.
+ * Already installed UI delegates keep their style object until they are installed again
+ * (e.g. using {@link javax.swing.SwingUtilities#updateComponentTreeUI(java.awt.Component)}).
+ *
+ * @author agent
+ */
+class FlatStyleCache
+{
+	private static final WeakHashMap<LookAndFeel, FlatStyleCache> caches = new WeakHashMap<>();
+
+	private static UIDefaults listenedDefaults;
+	private static final PropertyChangeListener defaultsListener = FlatStyleCache::defaultsChanged;
+
+	private final UIDefaults lafDefaults;
+	private final IdentityHashMap<Class<?>, IdentityHashMap<Class<?>, Entry>> entries = new IdentityHashMap<>();
+
+	private FlatStyleCache( UIDefaults lafDefaults ) {
+		this.lafDefaults = lafDefaults;
+		lafDefaults.addPropertyChangeListener( defaultsListener );
+	}
+
+	/**
+	 * Returns the style object of the given style class for the class of the given UI delegate.
+	 * Creates the style object using the given factory if not yet cached.
+	 * The factory must read all UI defaults using the passed {@link Reader}.
+	 */
+	static <T> T get( Class<T> styleClass, ComponentUI ui, Function<Reader, T> factory ) {
+		synchronized( FlatStyleCache.class ) {
+			FlatStyleCache cache = currentCache();
+			if( cache == null )
+				return factory.apply( new Reader() );
+
+			IdentityHashMap<Class<?>, Entry> styles = cache.entries.computeIfAbsent( styleClass, k -> new IdentityHashMap<>() );
+			Entry entry = styles.get( ui.getClass() );
+			if( entry == null ) {
+				Reader reader = new Reader();
+				entry = new Entry( factory.apply( reader ), reader.keys );
+				styles.put( ui.getClass(), entry );
+			}
+			return styleClass.cast( entry.style );
+		}
+	}
+
+	private static FlatStyleCache currentCache() {
+		LookAndFeel laf = UIManager.getLookAndFeel();
+		UIDefaults lafDefaults = UIManager.getLookAndFeelDefaults();
+		if( laf == null || lafDefaults == null )
+			return null;
+
+		// listen to changes of developer defaults
+		UIDefaults defaults = UIManager.getDefaults();
+		if( defaults != listenedDefaults ) {
+			if( listenedDefaults != null )
+				listenedDefaults.removePropertyChangeListener( defaultsListener );
+			defaults.addPropertyChangeListener( defaultsListener );
+			listenedDefaults = defaults;
+		}
+
+		FlatStyleCache cache = caches.get( laf );
+		if( cache == null || cache.lafDefaults != lafDefaults ) {
+			// look and feel was (re-)initialized
+			if( cache != null )
+				cache.lafDefaults.removePropertyChangeListener( defaultsListener );
+			cache = new FlatStyleCache( lafDefaults );
+			caches.put( laf, cache );
+		}
+		return cache;
+	}
+
+	private static void defaultsChanged( PropertyChangeEvent e ) {
+		synchronized( FlatStyleCache.class ) {
+			// "UIDefaults" is fired by UIDefaults.putDefaults()
+			String key = e.getPropertyName();
+			boolean all = "UIDefaults".equals( key );
+
+			for( FlatStyleCache cache : caches.values() ) {
+				for( IdentityHashMap<Class<?>, Entry> styles : cache.entries.values() ) {
+					if( all ) {
+						styles.clear();
+						continue;
+					}
+
+					for( Iterator<Map.Entry<Class<?>, Entry>> it = styles.entrySet().iterator(); it.hasNext(); ) {
+						if( it.next().getValue().keys.contains( key ) )
+							it.remove();
+					}
+				}
+			}
+		}
+	}
+
+	//---- class Entry --------------------------------------------------------
+
+	private static class Entry
+	{
+		final Object style;
+		final Set<String> keys;
+
+		Entry( Object style, Set<String> keys ) {
+			this.style = style;
+			this.keys = keys;
+		}
+	}
+
+	//---- class Reader -------------------------------------------------------
+
+	/**
+	 * Reads values from UI defaults and records the used keys.
+	 * Same as the corresponding methods in {@link UIManager} and {@link FlatUIUtils}.
+	 */
+	static class Reader
+	{
+		private final Set<String> keys = new HashSet<>();
+
+		Object get( String key ) {
+			keys.add( key );
+			return UIManager.get( key );
+		}
+
+		Color getColor( String key ) {
+			Object value = get( key );
+			return (value instanceof Color) ? (Color) value : null;
+		}
+
+		Color getColor( String key, String defaultKey ) {
+			Color color = getColor( key );
+			return (color != null) ? color : getColor( defaultKey );
+		}
+
+		Color getColor( String key, Color defaultColor ) {
+			Color color = getColor( key );
+			return (color != null) ? color : defaultColor;
+		}
+
+		int getInt( String key ) {
+			return getInt( key, 0 );
+		}
+
+		int getInt( String key, int defaultValue ) {
+			Object value = get( key );
+			return (value instanceof Integer) ? (Integer) value : defaultValue;
+		}
+
+		float getFloat( String key, float defaultValue ) {
+			Object value = get( key );
+			return (value instanceof Number) ? ((Number)value).floatValue() : defaultValue;
+		}
+
+		boolean getBoolean( String key ) {
+			Object value = get( key );
+			return (value instanceof Boolean) ? (Boolean) value : false;
+		}
+
+		String getString( String key ) {
+			Object value = get( key );
+			return (value instanceof String) ? (String) value : null;
+		}
+
+		Insets getInsets( String key ) {
+			Object value = get( key );
+			return (value instanceof Insets) ? (Insets) value : null;
+		}
+
+		Dimension getDimension( String key ) {
+			Object value = get( key );
+			return (value instanceof Dimension) ? (Dimension) value : null;
+		}
+
+		Icon getIcon( String key ) {
+			Object value = get( key );
+			return (value instanceof Icon) ? (Icon) value : null;
+		}
+	}
+}
@@ -28,6 +28,7 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.Insets;
 import java.awt.KeyboardFocusManager;
 import java.awt.LayoutManager;
@@ -51,33 +52,48 @@ import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 import javax.accessibility.Accessible;
 import javax.accessibility.AccessibleContext;
+import javax.swing.AbstractListModel;
+import javax.swing.BorderFactory;
 import javax.swing.ButtonModel;
+import javax.swing.DefaultListCellRenderer;
 import javax.swing.Icon;
 import javax.swing.JButton;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
+import javax.swing.JScrollPane;
 import javax.swing.JTabbedPane;
+import javax.swing.JTextField;
 import javax.swing.JViewport;
 import javax.swing.KeyStroke;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import javax.swing.UIManager;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
+import javax.swing.event.MenuKeyEvent;
+import javax.swing.event.MenuKeyListener;
 import javax.swing.event.PopupMenuEvent;
 import javax.swing.event.PopupMenuListener;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
+import javax.swing.plaf.basic.BasicHTML;
 import javax.swing.plaf.basic.BasicTabbedPaneUI;
 import javax.swing.text.JTextComponent;
 import javax.swing.text.View;
@@ -85,6 +101,7 @@ import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.util.Animator;
 import com.formdev.flatlaf.util.CubicBezierEasing;
 import com.formdev.flatlaf.util.JavaCompatibility;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.StringUtils;
 import com.formdev.flatlaf.util.UIScale;
 
@@ -149,6 +166,7 @@ import com.formdev.flatlaf.util.UIScale;
  * @uiDefault TabbedPane.buttonPressedBackground		Color
  *
  * @uiDefault TabbedPane.moreTabsButtonToolTipText		String
+ * @uiDefault TabbedPane.moreTabsPopupFilterPlaceholderText	String
  *
  * @author Karl Tauber
  */
@@ -212,6 +230,7 @@ public class FlatTabbedPaneUI
 	protected Color buttonPressedBackground;
 
 	protected String moreTabsButtonToolTipText;
+	protected String moreTabsPopupFilterPlaceholderText;
 
 	protected JViewport tabViewport;
 	protected FlatWheelTabScroller wheelTabScroller;
@@ -228,6 +247,10 @@ public class FlatTabbedPaneUI
 
 	private Object[] oldRenderingHints;
 
+	/** Cached preferred tab sizes, mapped by tab content component. */
+	private final Map<Component, TabMetrics> tabMetricsCache = new IdentityHashMap<>();
+	private float tabMetricsScaleFactor;
+
 	public static ComponentUI createUI( JComponent c ) {
 		return new FlatTabbedPaneUI();
 	}
@@ -315,6 +338,7 @@ public class FlatTabbedPaneUI
 
 		Locale l = tabPane.getLocale();
 		moreTabsButtonToolTipText = UIManager.getString( "TabbedPane.moreTabsButtonToolTipText", l );
+		moreTabsPopupFilterPlaceholderText = UIManager.getString( "TabbedPane.moreTabsPopupFilterPlaceholderText", l );
 
 		// scale
 		textIconGap = scale( textIconGapUnscaled );
@@ -357,6 +381,8 @@ public class FlatTabbedPaneUI
 		buttonHoverBackground = null;
 		buttonPressedBackground = null;
 
+		tabMetricsCache.clear();
+
 		MigLayoutVisualPadding.uninstall( tabPane );
 	}
 
@@ -594,14 +620,24 @@ public class FlatTabbedPaneUI
 	}
 
 	private boolean inCalculateEqual;
+	private boolean inLayout;
+	private int equalTabWidth = -1;
 
 	@Override
 	protected int calculateTabWidth( int tabPlacement, int tabIndex, FontMetrics metrics ) {
 		int tabWidthMode = getTabWidthMode();
 		if( tabWidthMode == WIDTH_MODE_EQUAL && isHorizontalTabPlacement() && !inCalculateEqual ) {
+			// while layouting, compute maximum tab width only once
+			// (instead of for each tab, which would be O(n^2))
+			if( inLayout && equalTabWidth >= 0 )
+				return equalTabWidth;
+
 			inCalculateEqual = true;
 			try {
-				return calculateMaxTabWidth( tabPlacement );
+				int maxTabWidth = calculateMaxTabWidth( tabPlacement );
+				if( inLayout )
+					equalTabWidth = maxTabWidth;
+				return maxTabWidth;
 			} finally {
 				inCalculateEqual = false;
 			}
@@ -610,14 +646,22 @@ public class FlatTabbedPaneUI
 		// update textIconGap before used in super class
 		textIconGap = scale( textIconGapUnscaled );
 
-		int tabWidth;
-		Icon icon;
-		if( tabWidthMode == WIDTH_MODE_COMPACT &&
+		Icon icon = null;
+		boolean compact = (tabWidthMode == WIDTH_MODE_COMPACT &&
 			tabIndex != tabPane.getSelectedIndex() &&
 			isHorizontalTabPlacement() &&
 			tabPane.getTabComponentAt( tabIndex ) == null &&
-			(icon = getIconForTab( tabIndex )) != null )
-		{
+			(icon = getIconForTab( tabIndex )) != null);
+
+		// use cached width (compact tabs are not cached because
+		// their width depends on the selected tab)
+		TabMetrics tabMetrics = compact ? null : getTabMetrics( tabIndex );
+		Font font = metrics.getFont();
+		if( tabMetrics != null && tabMetrics.width >= 0 && tabMetrics.widthFont == font )
+			return tabMetrics.width;
+
+		int tabWidth;
+		if( compact ) {
 			Insets tabInsets = getTabInsets( tabPlacement, tabIndex );
 			tabWidth = icon.getIconWidth() + tabInsets.left + tabInsets.right;
 		} else {
@@ -656,11 +700,21 @@ public class FlatTabbedPaneUI
 		if( max > 0 && tabPane.getTabComponentAt( tabIndex ) == null )
 			tabWidth = Math.min( tabWidth, scale( max ) );
 
+		if( tabMetrics != null ) {
+			tabMetrics.width = tabWidth;
+			tabMetrics.widthFont = font;
+		}
+
 		return tabWidth;
 	}
 
 	@Override
 	protected int calculateTabHeight( int tabPlacement, int tabIndex, int fontHeight ) {
+		// use cached height
+		TabMetrics tabMetrics = getTabMetrics( tabIndex );
+		if( tabMetrics != null && tabMetrics.height >= 0 && tabMetrics.heightFontHeight == fontHeight )
+			return tabMetrics.height;
+
 		int tabHeight;
 
 		Icon icon;
@@ -683,7 +737,46 @@ public class FlatTabbedPaneUI
 		} else
 			tabHeight = super.calculateTabHeight( tabPlacement, tabIndex, fontHeight ) - 2 /* was added by superclass */;
 
-		return Math.max( tabHeight, scale( clientPropertyInt( tabPane, TABBED_PANE_TAB_HEIGHT, this.tabHeight ) ) );
+		tabHeight = Math.max( tabHeight, scale( clientPropertyInt( tabPane, TABBED_PANE_TAB_HEIGHT, this.tabHeight ) ) );
+
+		if( tabMetrics != null ) {
+			tabMetrics.height = tabHeight;
+			tabMetrics.heightFontHeight = fontHeight;
+		}
+
+		return tabHeight;
+	}
+
+	/**
+	 * Returns the cached metrics of the given tab, or {@code null} if the tab
+	 * size can not be cached.
+	 * <p>
+	 * Computing tab sizes is expensive (string widths, HTML views, icons, insets,
+	 * client properties), but they are needed for all tabs on each layout.
+	 * Cached metrics are dropped if title or icon of the tab change,
+	 * if one of its client properties changes, or if a property of
+	 * the tabbed pane changes. Tabs with tab components are not cached
+	 * because the preferred size of the tab component may change at any time.
+	 */
+	private TabMetrics getTabMetrics( int tabIndex ) {
+		Component c = tabPane.getComponentAt( tabIndex );
+		if( c == null || tabPane.getTabComponentAt( tabIndex ) != null )
+			return null;
+
+		float scaleFactor = UIScale.getUserScaleFactor();
+		if( scaleFactor != tabMetricsScaleFactor ) {
+			tabMetricsCache.clear();
+			tabMetricsScaleFactor = scaleFactor;
+		}
+
+		String title = tabPane.getTitleAt( tabIndex );
+		Icon icon = getIconForTab( tabIndex );
+		TabMetrics tabMetrics = tabMetricsCache.get( c );
+		if( tabMetrics == null || tabMetrics.title != title || tabMetrics.icon != icon ) {
+			tabMetrics = new TabMetrics( title, icon );
+			tabMetricsCache.put( c, tabMetrics );
+		}
+		return tabMetrics;
 	}
 
 	@Override
@@ -793,6 +886,9 @@ public class FlatTabbedPaneUI
 
 	@Override
 	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
 		oldRenderingHints = FlatUIUtils.setRenderingHints( g );
 
 		super.update( g, c );
@@ -1371,6 +1467,23 @@ public class FlatTabbedPaneUI
 		}
 	}
 
+	/**
+	 * Runs the given layout computation. Values that are equal for all tabs
+	 * are computed only once during the computation (see {@link #calculateTabWidth}).
+	 */
+	private <T> T computeLayout( Supplier<T> supplier ) {
+		if( inLayout )
+			return supplier.get();
+
+		inLayout = true;
+		try {
+			return supplier.get();
+		} finally {
+			inLayout = false;
+			equalTabWidth = -1;
+		}
+	}
+
 	private void runWithOriginalLayoutManager( Runnable runnable ) {
 		LayoutManager layout = tabPane.getLayout();
 		if( layout instanceof FlatTabbedPaneScrollLayout ) {
@@ -1622,22 +1735,25 @@ public class FlatTabbedPaneUI
 			if( tabViewport == null )
 				return;
 
-			// detect (partly) hidden tabs and build popup menu
-			JPopupMenu popupMenu = new JPopupMenu();
-			popupMenu.addPopupMenuListener( this );
+			// detect (partly) hidden tabs
+			// (there may be hidden leading and trailing tabs)
 			Rectangle viewRect = tabViewport.getViewRect();
-			int lastIndex = -1;
+			int[] hiddenTabs = new int[rects.length];
+			int hiddenTabCount = 0;
+			int firstTrailingTab = -1;
 			for( int i = 0; i < rects.length; i++ ) {
 				if( !viewRect.contains( rects[i] ) ) {
-					// add separator between leading and trailing tabs
-					if( lastIndex >= 0 && lastIndex + 1 != i )
-						popupMenu.addSeparator();
-					lastIndex = i;
-
-					// create menu item for tab
-					popupMenu.add( createTabMenuItem( i ) );
+					if( hiddenTabCount > 0 && firstTrailingTab < 0 && hiddenTabs[hiddenTabCount - 1] + 1 != i )
+						firstTrailingTab = i;
+					hiddenTabs[hiddenTabCount++] = i;
 				}
 			}
+			if( hiddenTabCount == 0 )
+				return;
+
+			// create popup
+			JPopupMenu popupMenu = createTabsPopup( Arrays.copyOf( hiddenTabs, hiddenTabCount ), firstTrailingTab );
+			popupMenu.addPopupMenuListener( this );
 
 			// compute popup menu location
 			int buttonWidth = getWidth();
@@ -1658,27 +1774,52 @@ public class FlatTabbedPaneUI
 			popupMenu.show( this, x, y );
 		}
 
-		protected JMenuItem createTabMenuItem( int tabIndex ) {
-			// search for tab name in this places
-			//   1. tab title
-			//   2. text of label or text component in custom tab component (including children)
-			//   3. accessible name of tab
-			//   4. accessible name of custom tab component (including children)
-			//   5. string "n. Tab"
-			String title = tabPane.getTitleAt( tabIndex );
-			if( StringUtils.isEmpty( title ) ) {
-				Component tabComp = tabPane.getTabComponentAt( tabIndex );
-				if( tabComp != null )
-					title = findTabTitle( tabComp );
-				if( StringUtils.isEmpty( title ) )
-					title = tabPane.getAccessibleContext().getAccessibleChild( tabIndex ).getAccessibleContext().getAccessibleName();
-				if( StringUtils.isEmpty( title ) && tabComp instanceof Accessible )
-					title = findTabTitleInAccessible( (Accessible) tabComp );
-				if( StringUtils.isEmpty( title ) )
-					title = (tabIndex + 1) + ". Tab";
+		/**
+		 * Creates the popup that shows the given hidden tabs.
+		 *
+		 * @param hiddenTabs the indices of the hidden tabs (ascending)
+		 * @param firstTrailingTab the index of the first hidden tab after the visible tabs,
+		 *        or {@code -1} if there are no hidden trailing tabs
+		 */
+		@SuppressWarnings( "deprecation" )
+		protected JPopupMenu createTabsPopup( int[] hiddenTabs, int firstTrailingTab ) {
+			// subclasses that override deprecated createTabMenuItem() get a popup menu with menu items
+			if( isCreateTabMenuItemOverridden() ) {
+				JPopupMenu popupMenu = new JPopupMenu();
+				for( int i = 0; i < hiddenTabs.length; i++ ) {
+					// add separator between leading and trailing tabs
+					if( i > 0 && hiddenTabs[i] == firstTrailingTab )
+						popupMenu.addSeparator();
+
+					popupMenu.add( createTabMenuItem( hiddenTabs[i] ) );
+				}
+				return popupMenu;
+			}
+
+			return new FlatMoreTabsPopup( this, hiddenTabs, firstTrailingTab );
+		}
+
+		private boolean isCreateTabMenuItemOverridden() {
+			for( Class<?> cls = getClass(); cls != FlatMoreTabsButton.class; cls = cls.getSuperclass() ) {
+				try {
+					cls.getDeclaredMethod( "createTabMenuItem", int.class );
+					return true;
+				} catch( NoSuchMethodException ex ) {
+					// not overridden in this class
+				}
 			}
+			return false;
+		}
 
-			JMenuItem menuItem = new JMenuItem( title, tabPane.getIconAt( tabIndex ) );
+		/**
+		 * Creates a menu item for the given tab.
+		 *
+		 * @deprecated Hidden tabs are now shown in a list. Override {@link #createTabsPopup(int[], int)}
+		 *             to customize the popup. This method is only invoked if it is overridden.
+		 */
+		@Deprecated
+		protected JMenuItem createTabMenuItem( int tabIndex ) {
+			JMenuItem menuItem = new JMenuItem( getTabTitle( tabIndex ), tabPane.getIconAt( tabIndex ) );
 			menuItem.setDisabledIcon( tabPane.getDisabledIconAt( tabIndex ) );
 			menuItem.setToolTipText( tabPane.getToolTipTextAt( tabIndex ) );
 
@@ -1699,6 +1840,28 @@ public class FlatTabbedPaneUI
 			return menuItem;
 		}
 
+		protected String getTabTitle( int tabIndex ) {
+			// search for tab name in this places
+			//   1. tab title
+			//   2. text of label or text component in custom tab component (including children)
+			//   3. accessible name of tab
+			//   4. accessible name of custom tab component (including children)
+			//   5. string "n. Tab"
+			String title = tabPane.getTitleAt( tabIndex );
+			if( StringUtils.isEmpty( title ) ) {
+				Component tabComp = tabPane.getTabComponentAt( tabIndex );
+				if( tabComp != null )
+					title = findTabTitle( tabComp );
+				if( StringUtils.isEmpty( title ) )
+					title = tabPane.getAccessibleContext().getAccessibleChild( tabIndex ).getAccessibleContext().getAccessibleName();
+				if( StringUtils.isEmpty( title ) && tabComp instanceof Accessible )
+					title = findTabTitleInAccessible( (Accessible) tabComp );
+				if( StringUtils.isEmpty( title ) )
+					title = (tabIndex + 1) + ". Tab";
+			}
+			return title;
+		}
+
 		/**
 		 * Search for label or text component in custom tab component and return its text.
 		 */
@@ -1769,6 +1932,357 @@ public class FlatTabbedPaneUI
 		}
 	}
 
+	//---- class FlatMoreTabsPopup --------------------------------------------
+
+	/**
+	 * Popup that shows hidden tabs in a list.
+	 * <p>
+	 * Rows are rendered on demand (only visible rows), which makes opening
+	 * the popup fast, even if there are thousands of hidden tabs.
+	 * If there are more hidden tabs than fit into the popup, typing
+	 * filters the list. The filter text is shown in a text field above the list.
+	 * <p>
+	 * Typed keys are received via {@link MenuKeyListener} because popup menus
+	 * do not receive the keyboard focus.
+	 */
+	protected class FlatMoreTabsPopup
+		extends JPopupMenu
+		implements MenuKeyListener
+	{
+		private static final int MAXIMUM_ROW_COUNT = 15;
+		private static final int MAXIMUM_MEASURED_ROWS = 50;
+
+		protected final FlatMoreTabsButton moreTabsButton;
+		private final int[] hiddenTabs;
+		private final int firstTrailingTab;
+
+		/** The currently shown tabs (hidden tabs that match the filter). */
+		private int[] shownTabs;
+		/** Titles of the tabs, indexed by tab index (created on demand). */
+		private final String[] titles;
+		/** Lower case plain text titles of the hidden tabs (created on first filtering). */
+		private String[] filterTitles;
+
+		private final JTextField filterField;
+		private final JList<Integer> list;
+		private final TabsListModel listModel;
+
+		protected FlatMoreTabsPopup( FlatMoreTabsButton moreTabsButton, int[] hiddenTabs, int firstTrailingTab ) {
+			this.moreTabsButton = moreTabsButton;
+			this.hiddenTabs = hiddenTabs;
+			this.firstTrailingTab = firstTrailingTab;
+			this.shownTabs = hiddenTabs;
+			this.titles = new String[tabPane.getTabCount()];
+
+			setLayout( new BorderLayout() );
+
+			// list
+			listModel = new TabsListModel();
+			list = new JList<>( listModel );
+			list.setSelectionMode( ListSelectionModel.SINGLE_SELECTION );
+			list.setFocusable( false );
+			list.setCellRenderer( new TabsListCellRenderer() );
+			list.setVisibleRowCount( Math.min( hiddenTabs.length, MAXIMUM_ROW_COUNT ) );
+
+			// JList would compute the size of all rows using the cell renderer
+			// --> use fixed cell size (computed from some rows)
+			Dimension cellSize = computeCellSize();
+			list.setFixedCellWidth( cellSize.width );
+			list.setFixedCellHeight( cellSize.height );
+
+			MouseAdapter mouseHandler = new MouseAdapter() {
+				@Override
+				public void mouseMoved( MouseEvent e ) {
+					int index = rowAtPoint( e.getPoint() );
+					if( index >= 0 )
+						list.setSelectedIndex( index );
+				}
+
+				@Override
+				public void mouseReleased( MouseEvent e ) {
+					if( SwingUtilities.isLeftMouseButton( e ) )
+						selectTabAt( rowAtPoint( e.getPoint() ) );
+				}
+			};
+			list.addMouseListener( mouseHandler );
+			list.addMouseMotionListener( mouseHandler );
+
+			JScrollPane scrollPane = new JScrollPane( list,
+				JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED, JScrollPane.HORIZONTAL_SCROLLBAR_NEVER );
+			scrollPane.setBorder( BorderFactory.createEmptyBorder() );
+			add( scrollPane, BorderLayout.CENTER );
+
+			// filter field (only if list is scrollable)
+			if( hiddenTabs.length > MAXIMUM_ROW_COUNT ) {
+				filterField = new JTextField();
+				filterField.setFocusable( false );
+				filterField.putClientProperty( PLACEHOLDER_TEXT, moreTabsPopupFilterPlaceholderText );
+				add( filterField, BorderLayout.NORTH );
+			} else
+				filterField = null;
+
+			addMenuKeyListener( this );
+			applyComponentOrientation( tabPane.getComponentOrientation() );
+		}
+
+		/**
+		 * Computes the cell size from a limited number of rows, which are measured
+		 * using the cell renderer: the first (initially visible) rows and rows
+		 * evenly distributed over the remaining rows.
+		 * The width is limited to the half screen width. Rows that are wider
+		 * than the cell are clipped and show the title in a tool tip.
+		 */
+		private Dimension computeCellSize() {
+			ListCellRenderer<? super Integer> renderer = list.getCellRenderer();
+			int rowCount = hiddenTabs.length;
+			int sampleCount = Math.min( rowCount, MAXIMUM_MEASURED_ROWS );
+			int width = 0;
+			int height = 0;
+			for( int i = 0; i < sampleCount; i++ ) {
+				int row = i;
+				if( i >= MAXIMUM_ROW_COUNT && rowCount > sampleCount ) {
+					// evenly distribute remaining samples over remaining rows
+					row = MAXIMUM_ROW_COUNT + (int) ((long) (i - MAXIMUM_ROW_COUNT)
+						* (rowCount - MAXIMUM_ROW_COUNT) / (sampleCount - MAXIMUM_ROW_COUNT));
+				}
+
+				Component c = renderer.getListCellRendererComponent( list, hiddenTabs[row], row, false, false );
+				Dimension size = c.getPreferredSize();
+				width = Math.max( width, size.width );
+				height = Math.max( height, size.height );
+			}
+
+			GraphicsConfiguration gc = moreTabsButton.getGraphicsConfiguration();
+			if( gc != null )
+				width = Math.min( width, gc.getBounds().width / 2 );
+
+			return new Dimension( width, height );
+		}
+
+		/**
+		 * Returns the title of the given tab.
+		 * The title is searched only once and then cached.
+		 */
+		private String getTitle( int tabIndex ) {
+			String title = titles[tabIndex];
+			if( title == null ) {
+				title = moreTabsButton.getTabTitle( tabIndex );
+				titles[tabIndex] = title;
+			}
+			return title;
+		}
+
+		private int rowAtPoint( Point pt ) {
+			int index = list.locationToIndex( pt );
+			return (index >= 0 && list.getCellBounds( index, index ).contains( pt )) ? index : -1;
+		}
+
+		private void selectTabAt( int row ) {
+			if( row < 0 || row >= shownTabs.length )
+				return;
+
+			int tabIndex = shownTabs[row];
+			if( !tabPane.isEnabledAt( tabIndex ) )
+				return;
+
+			setVisible( false );
+			moreTabsButton.selectTab( tabIndex );
+		}
+
+		private void moveSelection( int delta ) {
+			int rowCount = shownTabs.length;
+			if( rowCount == 0 )
+				return;
+
+			int row = list.getSelectedIndex();
+			row = (row < 0)
+				? (delta > 0 ? 0 : rowCount - 1)
+				: Math.max( 0, Math.min( row + delta, rowCount - 1 ) );
+			list.setSelectedIndex( row );
+			list.ensureIndexIsVisible( row );
+		}
+
+		protected void setFilter( String filter ) {
+			filterField.setText( filter );
+
+			if( filter.isEmpty() )
+				shownTabs = hiddenTabs;
+			else {
+				if( filterTitles == null ) {
+					filterTitles = new String[hiddenTabs.length];
+					for( int i = 0; i < hiddenTabs.length; i++ )
+						filterTitles[i] = toFilterText( getTitle( hiddenTabs[i] ) );
+				}
+
+				String lowerFilter = filter.toLowerCase();
+				int[] tabs = new int[hiddenTabs.length];
+				int count = 0;
+				for( int i = 0; i < hiddenTabs.length; i++ ) {
+					if( filterTitles[i].contains( lowerFilter ) )
+						tabs[count++] = hiddenTabs[i];
+				}
+				shownTabs = Arrays.copyOf( tabs, count );
+			}
+
+			listModel.fireChanged();
+
+			if( shownTabs.length > 0 ) {
+				list.setSelectedIndex( 0 );
+				list.ensureIndexIsVisible( 0 );
+			} else
+				list.clearSelection();
+		}
+
+		private String toFilterText( String title ) {
+			// remove HTML tags
+			if( BasicHTML.isHTMLString( title ) ) {
+				StringBuilder buf = new StringBuilder( title.length() );
+				boolean inTag = false;
+				for( int i = 0; i < title.length(); i++ ) {
+					char ch = title.charAt( i );
+					if( ch == '<' )
+						inTag = true;
+					else if( ch == '>' )
+						inTag = false;
+					else if( !inTag )
+						buf.append( ch );
+				}
+				title = buf.toString();
+			}
+			return title.toLowerCase();
+		}
+
+		//---- interface MenuKeyListener ----
+
+		@Override
+		public void menuKeyTyped( MenuKeyEvent e ) {
+			char ch = e.getKeyChar();
+			if( filterField == null || ch == KeyEvent.CHAR_UNDEFINED || Character.isISOControl( ch ) )
+				return;
+
+			setFilter( filterField.getText() + ch );
+			e.consume();
+		}
+
+		@Override
+		public void menuKeyPressed( MenuKeyEvent e ) {
+			int pageSize = list.getVisibleRowCount();
+			switch( e.getKeyCode() ) {
+				case KeyEvent.VK_UP:		moveSelection( -1 ); break;
+				case KeyEvent.VK_DOWN:		moveSelection( 1 ); break;
+				case KeyEvent.VK_PAGE_UP:	moveSelection( -pageSize ); break;
+				case KeyEvent.VK_PAGE_DOWN:	moveSelection( pageSize ); break;
+				case KeyEvent.VK_HOME:		moveSelection( -shownTabs.length ); break;
+				case KeyEvent.VK_END:		moveSelection( shownTabs.length ); break;
+
+				case KeyEvent.VK_ENTER:
+					selectTabAt( list.getSelectedIndex() );
+					break;
+
+				case KeyEvent.VK_BACK_SPACE:
+					if( filterField == null || filterField.getText().isEmpty() )
+						return;
+					String filter = filterField.getText();
+					setFilter( filter.substring( 0, filter.length() - 1 ) );
+					break;
+
+				default:
+					return;
+			}
+			e.consume();
+		}
+
+		@Override
+		public void menuKeyReleased( MenuKeyEvent e ) {
+		}
+
+		//---- class TabsListModel ----
+
+		private class TabsListModel
+			extends AbstractListModel<Integer>
+		{
+			private int size = shownTabs.length;
+
+			@Override
+			public int getSize() {
+				return shownTabs.length;
+			}
+
+			@Override
+			public Integer getElementAt( int index ) {
+				return shownTabs[index];
+			}
+
+			void fireChanged() {
+				int oldSize = size;
+				size = shownTabs.length;
+
+				if( size < oldSize )
+					fireIntervalRemoved( this, size, oldSize - 1 );
+				else if( size > oldSize )
+					fireIntervalAdded( this, oldSize, size - 1 );
+
+				int commonSize = Math.min( oldSize, size );
+				if( commonSize > 0 )
+					fireContentsChanged( this, 0, commonSize - 1 );
+			}
+		}
+
+		//---- class TabsListCellRenderer ----
+
+		private class TabsListCellRenderer
+			extends DefaultListCellRenderer
+		{
+			private boolean paintSeparator;
+
+			@Override
+			public Component getListCellRendererComponent( JList<?> list, Object value,
+				int index, boolean isSelected, boolean cellHasFocus )
+			{
+				int tabIndex = (Integer) value;
+				String title = getTitle( tabIndex );
+				super.getListCellRendererComponent( list, title, index, isSelected, false );
+
+				setIcon( tabPane.getIconAt( tabIndex ) );
+				setDisabledIcon( tabPane.getDisabledIconAt( tabIndex ) );
+				setEnabled( tabPane.isEnabledAt( tabIndex ) );
+
+				// show title in tool tip if it is clipped
+				String toolTipText = tabPane.getToolTipTextAt( tabIndex );
+				if( toolTipText == null && list.getFixedCellWidth() > 0 &&
+					getPreferredSize().width > list.getFixedCellWidth() )
+					toolTipText = title;
+				setToolTipText( toolTipText );
+
+				if( !isSelected ) {
+					Color foregroundAt = tabPane.getForegroundAt( tabIndex );
+					if( foregroundAt != tabPane.getForeground() )
+						setForeground( foregroundAt );
+
+					Color backgroundAt = tabPane.getBackgroundAt( tabIndex );
+					if( backgroundAt != tabPane.getBackground() )
+						setBackground( backgroundAt );
+				}
+
+				// separator between leading and trailing tabs
+				paintSeparator = (firstTrailingTab >= 0 && index > 0 && index < shownTabs.length &&
+					tabIndex >= firstTrailingTab && shownTabs[index - 1] < firstTrailingTab);
+
+				return this;
+			}
+
+			@Override
+			protected void paintComponent( Graphics g ) {
+				super.paintComponent( g );
+
+				if( paintSeparator ) {
+					g.setColor( UIManager.getColor( "PopupMenuSeparator.foreground" ) );
+					g.fillRect( 0, 0, getWidth(), scale( 1 ) );
+				}
+			}
+		}
+	}
+
 	//---- class FlatScrollableTabButton --------------------------------------
 
 	protected class FlatScrollableTabButton
@@ -2200,6 +2714,12 @@ public class FlatTabbedPaneUI
 
 		@Override
 		public void propertyChange( PropertyChangeEvent e ) {
+			// changed titles and icons are detected in getTabMetrics(),
+			// but any other property may affect the size of all tabs
+			String propertyName = e.getPropertyName();
+			if( propertyName == null || !propertyName.startsWith( "indexFor" ) )
+				tabMetricsCache.clear();
+
 			// invoke delegate listener
 			switch( e.getPropertyName() ) {
 				case "tabPlacement":
@@ -2286,6 +2806,7 @@ public class FlatTabbedPaneUI
 				case TABBED_PANE_TAB_INSETS:
 				case TABBED_PANE_TAB_ALIGNMENT:
 				case TABBED_PANE_TAB_CLOSABLE:
+					tabMetricsCache.remove( e.getSource() );
 					tabPane.revalidate();
 					tabPane.repaint();
 					break;
@@ -2318,6 +2839,28 @@ public class FlatTabbedPaneUI
 			Component c = e.getChild();
 			if( !(c instanceof UIResource) )
 				c.removePropertyChangeListener( contentListener );
+			tabMetricsCache.remove( c );
+		}
+	}
+
+	//---- class TabMetrics ---------------------------------------------------
+
+	/**
+	 * Cached preferred size of a tab. Width and height are {@code -1} if not yet computed.
+	 */
+	private static class TabMetrics
+	{
+		final String title;
+		final Icon icon;
+
+		int width = -1;
+		Font widthFont;
+		int height = -1;
+		int heightFontHeight;
+
+		TabMetrics( String title, Icon icon ) {
+			this.title = title;
+			this.icon = icon;
 		}
 	}
 
@@ -2328,10 +2871,20 @@ public class FlatTabbedPaneUI
 	{
 		@Override
 		protected Dimension calculateSize( boolean minimum ) {
-			if( isContentEmpty() )
-				return calculateTabAreaSize();
+			return computeLayout( () -> {
+				if( isContentEmpty() )
+					return calculateTabAreaSize();
 
-			return super.calculateSize( minimum );
+				return super.calculateSize( minimum );
+			} );
+		}
+
+		@Override
+		public void calculateLayoutInfo() {
+			computeLayout( () -> {
+				super.calculateLayoutInfo();
+				return null;
+			} );
 		}
 
 		/**
@@ -2548,7 +3101,10 @@ public class FlatTabbedPaneUI
 
 		@Override
 		public void calculateLayoutInfo() {
-			delegate.calculateLayoutInfo();
+			computeLayout( () -> {
+				delegate.calculateLayoutInfo();
+				return null;
+			} );
 		}
 
 		@Override
@@ -2567,18 +3123,22 @@ public class FlatTabbedPaneUI
 
 		@Override
 		public Dimension preferredLayoutSize( Container parent ) {
-			if( isContentEmpty() )
-				return calculateTabAreaSize();
+			return computeLayout( () -> {
+				if( isContentEmpty() )
+					return calculateTabAreaSize();
 
-			return delegate.preferredLayoutSize( parent );
+				return delegate.preferredLayoutSize( parent );
+			} );
 		}
 
 		@Override
 		public Dimension minimumLayoutSize( Container parent ) {
-			if( isContentEmpty() )
-				return calculateTabAreaSize();
+			return computeLayout( () -> {
+				if( isContentEmpty() )
+					return calculateTabAreaSize();
 
-			return delegate.minimumLayoutSize( parent );
+				return delegate.minimumLayoutSize( parent );
+			} );
 		}
 
 		@Override
@@ -2598,7 +3158,10 @@ public class FlatTabbedPaneUI
 			// runWithOriginalLayoutManager() is necessary for correct locations
 			// of tab components layed out in TabbedPaneLayout.layoutTabComponents()
 			runWithOriginalLayoutManager( () -> {
-				delegate.layoutContainer( parent );
+				computeLayout( () -> {
+					delegate.layoutContainer( parent );
+					return null;
+				} );
 			} );
 
 			int tabsPopupPolicy = getTabsPopupPolicy();
@@ -22,6 +22,8 @@ import java.awt.Dimension;
 import java.awt.EventQueue;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.event.FocusEvent;
 import java.awt.event.FocusListener;
 import java.awt.geom.Rectangle2D;
@@ -30,12 +32,16 @@ import javax.swing.JComponent;
 import javax.swing.JScrollPane;
 import javax.swing.JViewport;
 import javax.swing.LookAndFeel;
+import javax.swing.RepaintManager;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicTableUI;
+import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellRenderer;
-import com.formdev.flatlaf.util.Graphics2DProxy;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -212,72 +218,158 @@ public class FlatTableUI
 		}
 	}
 
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
+	}
+
 	@Override
 	public void paint( Graphics g, JComponent c ) {
 		boolean horizontalLines = table.getShowHorizontalLines();
 		boolean verticalLines = table.getShowVerticalLines();
-		if( horizontalLines || verticalLines ) {
-			// fix grid painting issues in BasicTableUI
-			//   - do not paint last vertical grid line if line is on right edge of scroll pane
-			//   - fix unstable grid line thickness when scaled at 125%, 150%, 175%, 225%, ...
-			//     which paints either 1px or 2px lines depending on location
-
-			boolean hideLastVerticalLine = hideLastVerticalLine();
-			int tableWidth = table.getWidth();
-
-			double systemScaleFactor = UIScale.getSystemScaleFactor( (Graphics2D) g );
-			double lineThickness = (1. / systemScaleFactor) * (int) systemScaleFactor;
-
-			// Java 8 uses drawLine() to paint grid lines
-			// Java 9+ uses fillRect() to paint grid lines
-			g = new Graphics2DProxy( (Graphics2D) g ) {
-				@Override
-				public void drawLine( int x1, int y1, int x2, int y2 ) {
-					// do not paint last vertical line
-					if( hideLastVerticalLine && verticalLines &&
-						x1 == x2 && y1 == 0 && x1 == tableWidth - 1 &&
-						wasInvokedFromPaintGrid() )
-					  return;
-
-					super.drawLine( x1, y1, x2, y2 );
-				}
+		if( !horizontalLines && !verticalLines ) {
+			super.paint( g, c );
+			return;
+		}
 
-				@Override
-				public void fillRect( int x, int y, int width, int height ) {
-					// do not paint last vertical line
-					if( hideLastVerticalLine && verticalLines &&
-						width == 1 && y == 0 && x == tableWidth - 1 &&
-						wasInvokedFromPaintGrid() )
-					  return;
-
-					// reduce line thickness to avoid unstable painted line thickness
-					if( lineThickness != 1 ) {
-						if( horizontalLines && height == 1 && wasInvokedFromPaintGrid() ) {
-							super.fill( new Rectangle2D.Double( x, y, width, lineThickness ) );
-							return;
-						}
-						if( verticalLines && width == 1 && y == 0 && wasInvokedFromPaintGrid() ) {
-							super.fill( new Rectangle2D.Double( x, y, lineThickness, height ) );
-							return;
-						}
-					}
-
-					super.fillRect( x, y, width, height );
-				}
+		// paint grid lines (BasicTableUI also paints them before the cells)
+		paintGrid( g, horizontalLines, verticalLines );
+
+		// paint cells, but not grid lines, in BasicTableUI
+		// (the table setters invoke repaint(), which is not necessary here
+		// --> remove dirty region added by the setters)
+		RepaintManager repaintManager = RepaintManager.currentManager( table );
+		Rectangle dirtyRegion = repaintManager.getDirtyRegion( table );
+		table.setShowGrid( false );
+		try {
+			super.paint( g, c );
+		} finally {
+			table.setShowHorizontalLines( horizontalLines );
+			table.setShowVerticalLines( verticalLines );
+
+			repaintManager.markCompletelyClean( table );
+			if( !dirtyRegion.isEmpty() ) {
+				repaintManager.addDirtyRegion( table, dirtyRegion.x, dirtyRegion.y,
+					dirtyRegion.width, dirtyRegion.height );
+			}
+		}
 
-				private boolean wasInvokedFromPaintGrid() {
-					StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-					for( int i = 0; i < 10 || i < stackTrace.length; i++ ) {
-						if( "javax.swing.plaf.basic.BasicTableUI".equals( stackTrace[i].getClassName() ) &&
-							"paintGrid".equals( stackTrace[i].getMethodName() ) )
-						  return true;
-					}
-					return false;
+		// paint grid lines of dragged column
+		JTableHeader header = table.getTableHeader();
+		TableColumn draggedColumn = (header != null) ? header.getDraggedColumn() : null;
+		if( draggedColumn != null ) {
+			int draggedColumnIndex = indexOfColumn( draggedColumn );
+			if( draggedColumnIndex >= 0 ) {
+				Rectangle r = table.getCellRect( 0, draggedColumnIndex, true );
+				Graphics g2 = g.create();
+				try {
+					g2.translate( header.getDraggedDistance(), 0 );
+					g2.clipRect( r.x - 1, 0, r.width + 1, table.getHeight() );
+					paintGrid( g2, horizontalLines, verticalLines );
+				} finally {
+					g2.dispose();
 				}
-			};
+			}
 		}
+	}
+
+	private int indexOfColumn( TableColumn column ) {
+		TableColumnModel cm = table.getColumnModel();
+		int columnCount = cm.getColumnCount();
+		for( int i = 0; i < columnCount; i++ ) {
+			if( cm.getColumn( i ) == column )
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Paints the grid lines of the rows and columns within the clip bounds.
+	 * Fixes grid painting issues of {@code BasicTableUI}:
+	 * <ul>
+	 *   <li>do not paint last vertical grid line if line is on right edge of scroll pane
+	 *   <li>fix unstable grid line thickness when scaled at 125%, 150%, 175%, 225%, ...
+	 *       which paints either 1px or 2px lines depending on location
+	 * </ul>
+	 */
+	private void paintGrid( Graphics g, boolean horizontalLines, boolean verticalLines ) {
+		int rowCount = table.getRowCount();
+		int columnCount = table.getColumnCount();
+		int tableWidth = table.getWidth();
+		Rectangle bounds = new Rectangle( 0, 0, tableWidth, table.getHeight() );
+		Rectangle clip = g.getClipBounds();
+		Rectangle visibleBounds = (clip != null) ? clip.intersection( bounds ) : bounds;
+		if( rowCount <= 0 || columnCount <= 0 || visibleBounds.isEmpty() )
+			return;
+
+		// compute range of visible rows and columns
+		boolean ltr = table.getComponentOrientation().isLeftToRight();
+		Point upperLeft = visibleBounds.getLocation();
+		Point lowerRight = new Point( visibleBounds.x + visibleBounds.width - 1,
+			visibleBounds.y + visibleBounds.height - 1 );
+
+		int rMin = table.rowAtPoint( upperLeft );
+		int rMax = table.rowAtPoint( lowerRight );
+		if( rMin == -1 )
+			rMin = 0;
+		if( rMax == -1 )
+			rMax = rowCount - 1;
+
+		int cMin = table.columnAtPoint( ltr ? upperLeft : lowerRight );
+		int cMax = table.columnAtPoint( ltr ? lowerRight : upperLeft );
+		if( cMin == -1 )
+			cMin = 0;
+		if( cMax == -1 )
+			cMax = columnCount - 1;
+
+		double systemScaleFactor = UIScale.getSystemScaleFactor( (Graphics2D) g );
+		double lineThickness = (1. / systemScaleFactor) * (int) systemScaleFactor;
+
+		Rectangle minCell = table.getCellRect( rMin, cMin, true );
+		Rectangle maxCell = table.getCellRect( rMax, cMax, true );
+		Rectangle damagedArea = minCell.union( maxCell );
+
+		g.setColor( table.getGridColor() );
+
+		if( horizontalLines ) {
+			int x = damagedArea.x;
+			int width = damagedArea.width;
+			int y = damagedArea.y;
+			for( int row = rMin; row <= rMax; row++ ) {
+				y += table.getRowHeight( row );
+				paintGridLine( g, x, y - 1, width, 1, true, lineThickness );
+			}
+		}
+
+		if( verticalLines ) {
+			// do not paint last vertical line
+			int hiddenLineX = hideLastVerticalLine() ? tableWidth - 1 : Integer.MIN_VALUE;
+
+			TableColumnModel cm = table.getColumnModel();
+			int height = damagedArea.y + damagedArea.height;
+			int x = damagedArea.x;
+			for( int i = cMin; i <= cMax; i++ ) {
+				int column = ltr ? i : cMax - (i - cMin);
+				x += cm.getColumn( column ).getWidth();
+				if( x - 1 != hiddenLineX )
+					paintGridLine( g, x - 1, 0, 1, height, false, lineThickness );
+			}
+		}
+	}
 
-		super.paint( g, c );
+	private static void paintGridLine( Graphics g, int x, int y, int width, int height,
+		boolean horizontal, double lineThickness )
+	{
+		// reduce line thickness to avoid unstable painted line thickness
+		if( lineThickness != 1 ) {
+			((Graphics2D)g).fill( horizontal
+				? new Rectangle2D.Double( x, y, width, lineThickness )
+				: new Rectangle2D.Double( x, y, lineThickness, height ) );
+		} else
+			g.fillRect( x, y, width, height );
 	}
 
 	protected boolean hideLastVerticalLine() {
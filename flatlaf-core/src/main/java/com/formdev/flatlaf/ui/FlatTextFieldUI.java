@@ -40,6 +40,7 @@ import javax.swing.text.JTextComponent;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.util.HiDPIUtils;
 import com.formdev.flatlaf.util.JavaCompatibility;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JTextField}.
@@ -72,9 +73,7 @@ import com.formdev.flatlaf.util.JavaCompatibility;
 public class FlatTextFieldUI
 	extends BasicTextFieldUI
 {
-	protected int minimumWidth;
-	protected boolean isIntelliJTheme;
-	protected Color placeholderForeground;
+	protected Style style;
 
 	private FocusListener focusListener;
 
@@ -87,9 +86,7 @@ public class FlatTextFieldUI
 		super.installDefaults();
 
 		String prefix = getPropertyPrefix();
-		minimumWidth = UIManager.getInt( "Component.minimumWidth" );
-		isIntelliJTheme = UIManager.getBoolean( "Component.isIntelliJTheme" );
-		placeholderForeground = UIManager.getColor( prefix + ".placeholderForeground" );
+		style = FlatStyleCache.get( Style.class, this, r -> new Style( r, prefix ) );
 
 		LookAndFeel.installProperty( getComponent(), "opaque", false );
 
@@ -100,8 +97,6 @@ public class FlatTextFieldUI
 	protected void uninstallDefaults() {
 		super.uninstallDefaults();
 
-		placeholderForeground = null;
-
 		MigLayoutVisualPadding.uninstall( getComponent() );
 	}
 
@@ -146,10 +141,18 @@ public class FlatTextFieldUI
 		}
 	}
 
+	@Override
+	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
+		super.update( g, c );
+	}
+
 	@Override
 	protected void paintSafely( Graphics g ) {
-		paintBackground( g, getComponent(), isIntelliJTheme );
-		paintPlaceholder( g, getComponent(), placeholderForeground );
+		paintBackground( g, getComponent(), style.isIntelliJTheme );
+		paintPlaceholder( g, getComponent(), style.placeholderForeground );
 
 		super.paintSafely( HiDPIUtils.createGraphicsTextYCorrection( (Graphics2D) g ) );
 	}
@@ -221,12 +224,12 @@ public class FlatTextFieldUI
 
 	@Override
 	public Dimension getPreferredSize( JComponent c ) {
-		return applyMinimumWidth( c, super.getPreferredSize( c ), minimumWidth );
+		return applyMinimumWidth( c, super.getPreferredSize( c ), style.minimumWidth );
 	}
 
 	@Override
 	public Dimension getMinimumSize( JComponent c ) {
-		return applyMinimumWidth( c, super.getMinimumSize( c ), minimumWidth );
+		return applyMinimumWidth( c, super.getMinimumSize( c ), style.minimumWidth );
 	}
 
 	static Dimension applyMinimumWidth( JComponent c, Dimension size, int minimumWidth ) {
@@ -246,4 +249,23 @@ public class FlatTextFieldUI
 		size.width = Math.max( size.width, scale( minimumWidth ) + Math.round( focusWidth * 2 ) );
 		return size;
 	}
+
+	//---- class Style --------------------------------------------------------
+
+	/**
+	 * Values from UI defaults that are shared by all text fields
+	 * (for the current look and feel).
+	 */
+	public static class Style
+	{
+		public final int minimumWidth;
+		public final boolean isIntelliJTheme;
+		public final Color placeholderForeground;
+
+		Style( FlatStyleCache.Reader r, String prefix ) {
+			minimumWidth = r.getInt( "Component.minimumWidth" );
+			isIntelliJTheme = r.getBoolean( "Component.isIntelliJTheme" );
+			placeholderForeground = r.getColor( prefix + ".placeholderForeground" );
+		}
+	}
 }
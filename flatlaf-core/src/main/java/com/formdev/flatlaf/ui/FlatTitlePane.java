@@ -64,6 +64,7 @@ import javax.swing.border.Border;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.FlatSystemProperties;
 import com.formdev.flatlaf.ui.JBRCustomDecorations.JBRWindowTopBorder;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.ScaledImageIcon;
 import com.formdev.flatlaf.util.SystemInfo;
 import com.formdev.flatlaf.util.UIScale;
@@ -684,6 +685,9 @@ debug*/
 
 		@Override
 		public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+			if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+				return;
+
 			// paint bottom border
 			Border menuBarBorder = getMenuBarBorder();
 			if( menuBarBorder != null ) {
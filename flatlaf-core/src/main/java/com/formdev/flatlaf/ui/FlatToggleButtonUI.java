@@ -24,7 +24,6 @@ import java.beans.PropertyChangeEvent;
 import javax.swing.AbstractButton;
 import javax.swing.JComponent;
 import javax.swing.JToggleButton;
-import javax.swing.UIManager;
 import javax.swing.plaf.ComponentUI;
 import com.formdev.flatlaf.util.UIScale;
 
@@ -73,14 +72,7 @@ import com.formdev.flatlaf.util.UIScale;
 public class FlatToggleButtonUI
 	extends FlatButtonUI
 {
-	protected int tabUnderlineHeight;
-	protected Color tabUnderlineColor;
-	protected Color tabDisabledUnderlineColor;
-	protected Color tabSelectedBackground;
-	protected Color tabHoverBackground;
-	protected Color tabFocusBackground;
-
-	private boolean defaults_initialized = false;
+	protected TabStyle tabStyle;
 
 	public static ComponentUI createUI( JComponent c ) {
 		return FlatUIUtils.createSharedUI( FlatToggleButtonUI.class, FlatToggleButtonUI::new );
@@ -95,22 +87,7 @@ public class FlatToggleButtonUI
 	protected void installDefaults( AbstractButton b ) {
 		super.installDefaults( b );
 
-		if( !defaults_initialized ) {
-			tabUnderlineHeight = UIManager.getInt( "ToggleButton.tab.underlineHeight" );
-			tabUnderlineColor = UIManager.getColor( "ToggleButton.tab.underlineColor" );
-			tabDisabledUnderlineColor = UIManager.getColor( "ToggleButton.tab.disabledUnderlineColor" );
-			tabSelectedBackground = UIManager.getColor( "ToggleButton.tab.selectedBackground" );
-			tabHoverBackground = UIManager.getColor( "ToggleButton.tab.hoverBackground" );
-			tabFocusBackground = UIManager.getColor( "ToggleButton.tab.focusBackground" );
-
-			defaults_initialized = true;
-		}
-	}
-
-	@Override
-	protected void uninstallDefaults( AbstractButton b ) {
-		super.uninstallDefaults( b );
-		defaults_initialized = false;
+		tabStyle = FlatStyleCache.get( TabStyle.class, this, TabStyle::new );
 	}
 
 	@Override
@@ -146,7 +123,7 @@ public class FlatToggleButtonUI
 			int height = c.getHeight();
 			int width = c.getWidth();
 			boolean selected = ((AbstractButton)c).isSelected();
-			Color enabledColor = selected ? clientPropertyColor( c, TAB_BUTTON_SELECTED_BACKGROUND, tabSelectedBackground ) : null;
+			Color enabledColor = selected ? clientPropertyColor( c, TAB_BUTTON_SELECTED_BACKGROUND, tabStyle.selectedBackground ) : null;
 
 			// use component background if explicitly set
 			if( enabledColor == null ) {
@@ -157,7 +134,7 @@ public class FlatToggleButtonUI
 
 			// paint background
 			Color background = buttonStateColor( c, enabledColor,
-				null, tabFocusBackground, tabHoverBackground, null );
+				null, tabStyle.focusBackground, tabStyle.hoverBackground, null );
 			if( background != null ) {
 				g.setColor( background );
 				g.fillRect( 0, 0, width, height );
@@ -165,13 +142,38 @@ public class FlatToggleButtonUI
 
 			// paint underline if selected
 			if( selected ) {
-				int underlineHeight = UIScale.scale( clientPropertyInt( c, TAB_BUTTON_UNDERLINE_HEIGHT, tabUnderlineHeight ) );
+				int underlineHeight = UIScale.scale( clientPropertyInt( c, TAB_BUTTON_UNDERLINE_HEIGHT, tabStyle.underlineHeight ) );
 				g.setColor( c.isEnabled()
-					? clientPropertyColor( c, TAB_BUTTON_UNDERLINE_COLOR, tabUnderlineColor )
-					: tabDisabledUnderlineColor );
+					? clientPropertyColor( c, TAB_BUTTON_UNDERLINE_COLOR, tabStyle.underlineColor )
+					: tabStyle.disabledUnderlineColor );
 				g.fillRect( 0, height - underlineHeight, width, underlineHeight );
 			}
 		} else
 			super.paintBackground( g, c );
 	}
+
+	//---- class TabStyle -----------------------------------------------------
+
+	/**
+	 * Values from UI defaults for tab buttons that are shared by all toggle buttons
+	 * (for the current look and feel).
+	 */
+	public static class TabStyle
+	{
+		public final int underlineHeight;
+		public final Color underlineColor;
+		public final Color disabledUnderlineColor;
+		public final Color selectedBackground;
+		public final Color hoverBackground;
+		public final Color focusBackground;
+
+		TabStyle( FlatStyleCache.Reader r ) {
+			underlineHeight = r.getInt( "ToggleButton.tab.underlineHeight" );
+			underlineColor = r.getColor( "ToggleButton.tab.underlineColor" );
+			disabledUnderlineColor = r.getColor( "ToggleButton.tab.disabledUnderlineColor" );
+			selectedBackground = r.getColor( "ToggleButton.tab.selectedBackground" );
+			hoverBackground = r.getColor( "ToggleButton.tab.hoverBackground" );
+			focusBackground = r.getColor( "ToggleButton.tab.focusBackground" );
+		}
+	}
 }
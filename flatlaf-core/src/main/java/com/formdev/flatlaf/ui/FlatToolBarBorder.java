@@ -25,6 +25,7 @@ import java.awt.Rectangle;
 import javax.swing.JToolBar;
 import javax.swing.SwingConstants;
 import javax.swing.UIManager;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -50,6 +51,9 @@ public class FlatToolBarBorder
 
 	@Override
 	public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+		if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+			return;
+
 		// paint grip
 		if( c instanceof JToolBar && ((JToolBar)c).isFloatable() ) {
 			Graphics2D g2 = (Graphics2D) g.create();
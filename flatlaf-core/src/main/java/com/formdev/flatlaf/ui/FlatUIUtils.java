@@ -39,6 +39,8 @@ import java.awt.geom.Rectangle2D;
 import java.awt.geom.RoundRectangle2D;
 import java.util.IdentityHashMap;
 import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import javax.swing.JComponent;
 import javax.swing.JTable;
@@ -65,6 +67,7 @@ public class FlatUIUtils
 	public static final boolean MAC_USE_QUARTZ = Boolean.getBoolean( "apple.awt.graphics.UseQuartz" );
 
 	private static WeakHashMap<LookAndFeel, IdentityHashMap<Object, ComponentUI>> sharedUIinstances = new WeakHashMap<>();
+	private static Executor backgroundExecutor;
 
 	public static Rectangle addInsets( Rectangle r, Insets insets ) {
 		return new Rectangle(
@@ -312,6 +315,9 @@ public class FlatUIUtils
 		if( focusWidth + lineWidth == 0 )
 			return; // nothing to paint
 
+		if( FlatNineSliceCache.paint( g, FlatNineSliceCache.OUTER_BORDER, x, y, width, height, focusWidth, lineWidth, arc ) )
+			return;
+
 		double systemScaleFactor = UIScale.getSystemScaleFactor( g );
 		if( systemScaleFactor != 1 && systemScaleFactor != 2 ) {
 			// paint at scale 1x to avoid clipping on right and bottom edges at 125%, 150% or 175%
@@ -326,7 +332,7 @@ public class FlatUIUtils
 		paintComponentOuterBorderImpl( g, x, y, width, height, focusWidth, lineWidth, arc );
 	}
 
-	private static void paintComponentOuterBorderImpl( Graphics2D g, int x, int y, int width, int height,
+	static void paintComponentOuterBorderImpl( Graphics2D g, int x, int y, int width, int height,
 		float focusWidth, float lineWidth, float arc )
 	{
 		float ow = focusWidth + lineWidth;
@@ -337,10 +343,11 @@ public class FlatUIUtils
 		if( arc > 0 && arc < UIScale.scale( 10 ) )
 			outerArc -= UIScale.scale( 2f );
 
-		Path2D path = new Path2D.Float( Path2D.WIND_EVEN_ODD );
-		path.append( createComponentRectangle( x, y, width, height, outerArc ), false );
-		path.append( createComponentRectangle( x + ow, y + ow, width - (ow * 2), height - (ow * 2), innerArc ), false );
-		g.fill( path );
+		ScratchShapes shapes = ScratchShapes.get();
+		shapes.path.reset();
+		shapes.appendComponentRectangle( x, y, width, height, outerArc );
+		shapes.appendComponentRectangle( x + ow, y + ow, width - (ow * 2), height - (ow * 2), innerArc );
+		g.fill( shapes.path );
 	}
 
 	/**
@@ -360,6 +367,9 @@ public class FlatUIUtils
 		if( lineWidth == 0 )
 			return; // nothing to paint
 
+		if( FlatNineSliceCache.paint( g, FlatNineSliceCache.BORDER, x, y, width, height, focusWidth, lineWidth, arc ) )
+			return;
+
 		double systemScaleFactor = UIScale.getSystemScaleFactor( g );
 		if( systemScaleFactor != 1 && systemScaleFactor != 2 ) {
 			// paint at scale 1x to avoid clipping on right and bottom edges at 125%, 150% or 175%
@@ -374,7 +384,7 @@ public class FlatUIUtils
 		paintComponentBorderImpl( g, x, y, width, height, focusWidth, lineWidth, arc );
 	}
 
-	private static void paintComponentBorderImpl( Graphics2D g, int x, int y, int width, int height,
+	static void paintComponentBorderImpl( Graphics2D g, int x, int y, int width, int height,
 		float focusWidth, float lineWidth, float arc )
 	{
 		float x1 = x + focusWidth;
@@ -383,15 +393,13 @@ public class FlatUIUtils
 		float height1 = height - focusWidth * 2;
 		float arc2 = arc - (lineWidth * 2);
 
-		Shape r1 = createComponentRectangle( x1, y1, width1, height1, arc );
-		Shape r2 = createComponentRectangle(
+		ScratchShapes shapes = ScratchShapes.get();
+		shapes.path.reset();
+		shapes.appendComponentRectangle( x1, y1, width1, height1, arc );
+		shapes.appendComponentRectangle(
 			x1 + lineWidth, y1 + lineWidth,
 			width1 - lineWidth * 2, height1 - lineWidth * 2, arc2 );
-
-		Path2D border = new Path2D.Float( Path2D.WIND_EVEN_ODD );
-		border.append( r1, false );
-		border.append( r2, false );
-		g.fill( border );
+		g.fill( shapes.path );
 	}
 
 	/**
@@ -407,6 +415,9 @@ public class FlatUIUtils
 	public static void paintComponentBackground( Graphics2D g, int x, int y, int width, int height,
 		float focusWidth, float arc )
 	{
+		if( FlatNineSliceCache.paint( g, FlatNineSliceCache.BACKGROUND, x, y, width, height, focusWidth, 0, arc ) )
+			return;
+
 		double systemScaleFactor = UIScale.getSystemScaleFactor( g );
 		if( systemScaleFactor != 1 && systemScaleFactor != 2 ) {
 			// paint at scale 1x to avoid clipping on right and bottom edges at 125%, 150% or 175%
@@ -421,10 +432,10 @@ public class FlatUIUtils
 		paintComponentBackgroundImpl( g, x, y, width, height, focusWidth, arc );
 	}
 
-	private static void paintComponentBackgroundImpl( Graphics2D g, int x, int y, int width, int height,
+	static void paintComponentBackgroundImpl( Graphics2D g, int x, int y, int width, int height,
 		float focusWidth, float arc )
 	{
-		g.fill( createComponentRectangle(
+		g.fill( ScratchShapes.get().componentRectangle(
 			x + focusWidth, y + focusWidth,
 			width - focusWidth * 2, height - focusWidth * 2, arc ) );
 	}
@@ -677,6 +688,23 @@ public class FlatUIUtils
 			.computeIfAbsent( key, k -> newInstanceSupplier.get() );
 	}
 
+	/**
+	 * Returns an executor that runs tasks in FlatLaf background threads.
+	 * Used to load UI defaults and to scale previews of iconified internal frames.
+	 * <p>
+	 * The threads are daemon threads that terminate after 60 seconds idle time.
+	 */
+	public static synchronized Executor getBackgroundExecutor() {
+		if( backgroundExecutor == null ) {
+			backgroundExecutor = Executors.newCachedThreadPool( r -> {
+				Thread thread = new Thread( r, "FlatLaf background worker" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+		}
+		return backgroundExecutor;
+	}
+
 	//---- class RepaintFocusListener -----------------------------------------
 
 	public static class RepaintFocusListener
@@ -698,4 +726,48 @@ public class FlatUIUtils
 			repaintComponent.repaint();
 		}
 	}
+
+	//---- class ScratchShapes ------------------------------------------------
+
+	/**
+	 * Shapes that are reused to paint component borders and backgrounds,
+	 * which avoids allocating new shapes on each paint.
+	 * <p>
+	 * One instance per thread. The shapes are only valid until they are used
+	 * again in the same thread and must not be passed to other code.
+	 */
+	private static class ScratchShapes
+	{
+		private static final ThreadLocal<ScratchShapes> instances = ThreadLocal.withInitial( ScratchShapes::new );
+
+		private final Rectangle2D.Float rect = new Rectangle2D.Float();
+		private final RoundRectangle2D.Float roundRect = new RoundRectangle2D.Float();
+		final Path2D.Float path = new Path2D.Float( Path2D.WIND_EVEN_ODD, 32 );
+
+		static ScratchShapes get() {
+			return instances.get();
+		}
+
+		/**
+		 * Same as {@link FlatUIUtils#createComponentRectangle(float, float, float, float, float)},
+		 * but reuses the returned shape.
+		 */
+		Shape componentRectangle( float x, float y, float w, float h, float arc ) {
+			if( arc <= 0 ) {
+				rect.setRect( x, y, w, h );
+				return rect;
+			}
+
+			arc = Math.min( arc, Math.min( w, h ) );
+			roundRect.setRoundRect( x, y, w, h, arc, arc );
+			return roundRect;
+		}
+
+		/**
+		 * Appends a component rectangle to {@link #path}.
+		 */
+		void appendComponentRectangle( float x, float y, float w, float h, float arc ) {
+			path.append( componentRectangle( x, y, w, h, arc ), false );
+		}
+	}
 }
@@ -23,6 +23,7 @@ import javax.swing.JTable;
 import javax.swing.JViewport;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicViewportUI;
+import com.formdev.flatlaf.util.PaintStatistics;
 
 /**
  * Provides the Flat LaF UI delegate for {@link javax.swing.JViewport}.
@@ -44,6 +45,9 @@ public class FlatViewportUI
 
 	@Override
 	public void update( Graphics g, JComponent c ) {
+		if( PaintStatistics.measureUpdate( this, g, c ) )
+			return;
+
 		Component view = ((JViewport)c).getView();
 		if( c.isOpaque() && view instanceof JTable ) {
 			// paint viewport background in same color as table background
@@ -41,6 +41,7 @@ import javax.swing.plaf.BorderUIResource;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.FlatSystemProperties;
 import com.formdev.flatlaf.util.HiDPIUtils;
+import com.formdev.flatlaf.util.PaintStatistics;
 import com.formdev.flatlaf.util.SystemInfo;
 
 /**
@@ -297,6 +298,9 @@ public class JBRCustomDecorations
 
 		@Override
 		public void paintBorder( Component c, Graphics g, int x, int y, int width, int height ) {
+			if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+				return;
+
 			Window window = SwingUtilities.windowForComponent( c );
 			boolean active = (window != null) ? window.isActive() : false;
 
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.util.ArrayList;
+import javax.swing.Timer;
+
+/**
+ * Animation clock that drives all running {@link Animator}s.
+ * <p>
+ * Uses a single {@link Timer} that ticks once per frame (based on the display
+ * refresh rate) and sends timing events to all running animators in one batch.
+ * If the event dispatch thread is busy and ticks are late, the missed frames
+ * are skipped (animators compute their timing fraction from the elapsed time)
+ * and counted as dropped frames.
+ * The timer is stopped if no animator is running.
+ *
+ * @author agent
+ */
+public final class AnimationClock
+{
+	private static final ArrayList<Animator> animators = new ArrayList<>();
+	private static Timer timer;
+	private static int frameInterval;
+	private static long lastTickTime;
+	private static long droppedFrameCount;
+
+	private AnimationClock() {}
+
+	/**
+	 * Returns the time between two frames in milliseconds.
+	 * Computed from the highest refresh rate of all screens (60 Hz if unknown).
+	 */
+	public static int getFrameInterval() {
+		if( frameInterval == 0 )
+			frameInterval = computeFrameInterval();
+		return frameInterval;
+	}
+
+	/**
+	 * Returns the number of currently running animators.
+	 */
+	public static int getActiveAnimatorCount() {
+		synchronized( animators ) {
+			return animators.size();
+		}
+	}
+
+	/**
+	 * Returns the number of frames that were skipped because the
+	 * event dispatch thread was too busy to process ticks in time.
+	 */
+	public static long getDroppedFrameCount() {
+		return droppedFrameCount;
+	}
+
+	/**
+	 * Resets the dropped frame counter to zero.
+	 */
+	public static void resetDroppedFrameCount() {
+		droppedFrameCount = 0;
+	}
+
+	static void add( Animator animator ) {
+		synchronized( animators ) {
+			if( animators.contains( animator ) )
+				return;
+
+			animators.add( animator );
+
+			if( timer == null ) {
+				timer = new Timer( getFrameInterval(), e -> tick() );
+				timer.setInitialDelay( 0 );
+			}
+			if( !timer.isRunning() ) {
+				lastTickTime = 0;
+				timer.start();
+			}
+		}
+	}
+
+	static void remove( Animator animator ) {
+		synchronized( animators ) {
+			animators.remove( animator );
+		}
+	}
+
+	private static void tick() {
+		long now = System.nanoTime() / 1000000;
+
+		// count dropped frames
+		if( lastTickTime != 0 ) {
+			long missedFrames = ((now - lastTickTime) / getFrameInterval()) - 1;
+			if( missedFrames > 0 )
+				droppedFrameCount += missedFrames;
+		}
+		lastTickTime = now;
+
+		// animators may start or stop animators while processing timing events
+		// --> iterate over a copy
+		Animator[] running;
+		synchronized( animators ) {
+			running = animators.toArray( new Animator[animators.size()] );
+		}
+
+		for( Animator animator : running )
+			animator.tick( now );
+
+		// stop timer if idle
+		synchronized( animators ) {
+			if( animators.isEmpty() )
+				timer.stop();
+		}
+	}
+
+	private static int computeFrameInterval() {
+		int refreshRate = 0;
+		if( !GraphicsEnvironment.isHeadless() ) {
+			try {
+				for( GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices() )
+					refreshRate = Math.max( refreshRate, device.getDisplayMode().getRefreshRate() );
+			} catch( Exception ex ) {
+				// ignore
+			}
+		}
+		if( refreshRate <= DisplayMode.REFRESH_RATE_UNKNOWN )
+			refreshRate = 60;
+
+		return Math.max( 1000 / refreshRate, 1 );
+	}
+}
@@ -17,12 +17,14 @@
 package com.formdev.flatlaf.util;
 
 import java.util.ArrayList;
-import javax.swing.Timer;
 import com.formdev.flatlaf.FlatSystemProperties;
 
 /**
  * Simple animator based on ideas and concepts from "Filthy Rich Clients" book
  * and "Timing Framework" library.
+ * <p>
+ * All running animators are driven by the shared {@link AnimationClock},
+ * which sends timing events once per frame.
  *
  * @author Karl Tauber
  */
@@ -38,7 +40,7 @@ public class Animator
 	private boolean hasBegun;
 	private boolean timeToStop;
 	private long startTime;
-	private Timer timer;
+	private long lastTimingEventTime;
 
 	/**
 	 * Checks whether animations are enabled (the default) or disabled via
@@ -107,7 +109,8 @@ public class Animator
 
 	/**
 	 * Returns the resolution of the animation in milliseconds (default is 10).
-	 * Resolution is the amount of time between timing events.
+	 * Resolution is the minimum amount of time between timing events.
+	 * Timing events are sent at most once per frame of the {@link AnimationClock}.
 	 */
 	public int getResolution() {
 		return resolution;
@@ -184,19 +187,26 @@ public class Animator
 		timeToStop = false;
 		startTime = System.nanoTime() / 1000000;
 
-		if( timer == null ) {
-			timer = new Timer( resolution, e -> {
-				if( !hasBegun ) {
-					begin();
-					hasBegun = true;
-				}
-
-				timingEvent( getTimingFraction() );
-			} );
-		} else
-			timer.setDelay( resolution );
-		timer.setInitialDelay( 0 );
-		timer.start();
+		AnimationClock.add( this );
+	}
+
+	/**
+	 * Invoked by {@link AnimationClock} once per frame.
+	 */
+	void tick( long now ) {
+		if( !running )
+			return;
+
+		if( !hasBegun ) {
+			begin();
+			hasBegun = true;
+		} else if( now - lastTimingEventTime + (AnimationClock.getFrameInterval() / 2) < resolution ) {
+			// resolution is larger than frame interval --> skip this frame
+			return;
+		}
+
+		lastTimingEventTime = now;
+		timingEvent( getTimingFraction() );
 	}
 
 	/**
@@ -219,8 +229,7 @@ public class Animator
 		if( !running )
 			return;
 
-		if( timer != null )
-			timer.stop();
+		AnimationClock.remove( this );
 
 		if( !cancel )
 			end();
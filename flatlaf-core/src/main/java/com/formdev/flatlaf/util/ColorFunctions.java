@@ -25,15 +25,27 @@ import java.awt.Color;
  */
 public class ColorFunctions
 {
+	/** Reused HSLA array (per thread) to avoid allocations when applying functions. */
+	private static final ThreadLocal<float[]> tempHSLA = ThreadLocal.withInitial( () -> new float[4] );
+
 	public static Color applyFunctions( Color color, ColorFunction... functions ) {
-		float[] hsl = HSLColor.fromRGB( color );
-		float alpha = color.getAlpha() / 255f;
-		float[] hsla = { hsl[0], hsl[1], hsl[2], alpha * 100 };
+		return new Color( applyFunctions( color.getRGB(), functions ), true );
+	}
+
+	/**
+	 * Same as {@link #applyFunctions(Color, ColorFunction...)}, but takes and returns
+	 * ARGB values (see {@link Color#getRGB()}) and does not allocate objects.
+	 * Used to derive colors while painting.
+	 */
+	public static int applyFunctions( int argb, ColorFunction... functions ) {
+		float[] hsla = tempHSLA.get();
+		HSLColor.fromRGB( argb, hsla );
+		hsla[3] = (((argb >> 24) & 0xff) / 255f) * 100;
 
 		for( ColorFunction function : functions )
 			function.apply( hsla );
 
-		return HSLColor.toRGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
+		return HSLColor.toARGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
 	}
 
 	public static float clamp( float value ) {
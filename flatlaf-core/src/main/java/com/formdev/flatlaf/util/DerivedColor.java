@@ -30,33 +30,79 @@ import com.formdev.flatlaf.util.ColorFunctions.ColorFunction;
 public class DerivedColor
 	extends ColorUIResource
 {
+	/** Number of derived colors remembered per instance. */
+	private static final int MEMO_SIZE = 4;
+
 	private final ColorFunction[] functions;
 
 	private boolean hasBaseOfDefaultColor;
 	private int baseOfDefaultColorRGB;
 
+	// recently derived colors (created on demand)
+	private MemoEntry[] memo;
+	private int nextMemoIndex;
+
 	public DerivedColor( Color defaultColor, ColorFunction... functions ) {
 		super( (defaultColor != null) ? defaultColor : Color.red );
 		this.functions = functions;
 	}
 
 	public Color derive( Color baseColor ) {
-		if( (hasBaseOfDefaultColor && baseOfDefaultColorRGB == baseColor.getRGB()) || baseColor == this )
+		if( baseColor == this )
 			return this; // return default color
 
-		Color result = ColorFunctions.applyFunctions( baseColor, functions );
+		int baseRGB = baseColor.getRGB();
+		if( hasBaseOfDefaultColor && baseOfDefaultColorRGB == baseRGB )
+			return this; // return default color
+
+		// derived colors are usually computed for only a few base colors
+		// (e.g. normal, hover and pressed background)
+		// --> remember recently derived colors to avoid color calculations
+		//     and allocations on every repaint
+		MemoEntry[] memo = this.memo;
+		if( memo != null ) {
+			for( MemoEntry entry : memo ) {
+				if( entry != null && entry.baseRGB == baseRGB )
+					return entry.color;
+			}
+		}
+
+		int resultRGB = ColorFunctions.applyFunctions( baseRGB, functions );
 
 		// if the result is equal to the default color, then the original base color
 		// was passed and we can cache this to avoid color calculations
-		if( !hasBaseOfDefaultColor && result.getRGB() == this.getRGB() ) {
-			hasBaseOfDefaultColor = true;
-			baseOfDefaultColorRGB = baseColor.getRGB();
+		if( resultRGB == this.getRGB() ) {
+			if( !hasBaseOfDefaultColor ) {
+				hasBaseOfDefaultColor = true;
+				baseOfDefaultColorRGB = baseRGB;
+			}
+			return this;
 		}
 
+		Color result = new Color( resultRGB, true );
+
+		if( memo == null )
+			this.memo = memo = new MemoEntry[MEMO_SIZE];
+		memo[nextMemoIndex] = new MemoEntry( baseRGB, result );
+		nextMemoIndex = (nextMemoIndex + 1) % MEMO_SIZE;
+
 		return result;
 	}
 
 	public ColorFunction[] getFunctions() {
 		return functions;
 	}
+
+	//---- class MemoEntry ----------------------------------------------------
+
+	private static class MemoEntry
+	{
+		final int baseRGB;
+		final Color color;
+
+		MemoEntry( int baseRGB, Color color ) {
+			this.baseRGB = baseRGB;
+			this.color = color;
+		}
+	}
 }
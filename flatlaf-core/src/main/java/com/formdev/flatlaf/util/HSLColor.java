@@ -258,13 +258,26 @@ public class HSLColor
 	 *  @return an array containing the 3 HSL values.
 	 */
 	public static float[] fromRGB(Color color)
+	{
+		float[] hsl = new float[3];
+		fromRGB(color.getRGB(), hsl);
+		return hsl;
+	}
+
+	/**
+	 *  Convert a RGB value (see {@link Color#getRGB()}) to it corresponding HSL values.
+	 *  Does not allocate objects.
+	 *
+	 *  @param rgb the RGB value (alpha is ignored)
+	 *  @param hsl an array of at least 3 elements that receives the HSL values
+	 */
+	public static void fromRGB(int rgb, float[] hsl)
 	{
 		//  Get RGB values in the range 0 - 1
 
-		float[] rgb = color.getRGBColorComponents( null );
-		float r = rgb[0];
-		float g = rgb[1];
-		float b = rgb[2];
+		float r = ((rgb >> 16) & 0xff) / 255f;
+		float g = ((rgb >> 8) & 0xff) / 255f;
+		float b = (rgb & 0xff) / 255f;
 
 		//	Minimum and Maximum RGB values are used in the HSL calculations
 
@@ -300,8 +313,9 @@ public class HSLColor
 		else
 			s = (max - min) / (2 - max - min);
 
-//		System.out.println(new HSLColor( new float[] {h, s * 100, l * 100} ));
-		return new float[] {h, s * 100, l * 100};
+		hsl[0] = h;
+		hsl[1] = s * 100;
+		hsl[2] = l * 100;
 	}
 
 	/**
@@ -360,6 +374,22 @@ public class HSLColor
 	 *  @return the RGB Color object
 	 */
 	public static Color toRGB(float h, float s, float l, float alpha)
+	{
+		return new Color(toARGB(h, s, l, alpha), true);
+	}
+
+	/**
+	 *  Convert HSL values to a ARGB value (see {@link Color#getRGB()}).
+	 *  Does not allocate objects.
+	 *
+	 *  @param h Hue is specified as degrees in the range 0 - 360.
+	 *  @param s Saturation is specified as a percentage in the range 1 - 100.
+	 *  @param l Lumanance is specified as a percentage in the range 1 - 100.
+	 *  @param alpha  the alpha value between 0 - 1
+	 *
+	 *  @return the ARGB value
+	 */
+	public static int toARGB(float h, float s, float l, float alpha)
 	{
 		if (s <0.0f || s > 100.0f)
 		{
@@ -403,7 +433,12 @@ public class HSLColor
 		g = Math.min(g, 1.0f);
 		b = Math.min(b, 1.0f);
 
-		return new Color(r, g, b, alpha);
+		//  Same rounding as in Color(float, float, float, float)
+
+		return (((int) (alpha * 255 + 0.5)) << 24) |
+			(((int) (r * 255 + 0.5)) << 16) |
+			(((int) (g * 255 + 0.5)) << 8) |
+			((int) (b * 255 + 0.5));
 	}
 
 	private static float HueToRGB(float p, float q, float h)
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map with limited size that removes the least recently used entry
+ * if the maximum size is exceeded.
+ * <p>
+ * Used to cache images. Like Swing, this class is not thread-safe and should be
+ * used only on the AWT event dispatching thread.
+ *
+ * @author agent
+ */
+public class LRUCache<K, V>
+	extends LinkedHashMap<K, V>
+{
+	private final int maxSize;
+
+	public LRUCache( int maxSize ) {
+		super( 16, 0.75f, true );
+		this.maxSize = maxSize;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	protected boolean removeEldestEntry( Map.Entry<K, V> eldest ) {
+		return size() > maxSize;
+	}
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import java.awt.Component;
+import java.awt.Graphics;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.JComponent;
+import javax.swing.border.Border;
+import javax.swing.plaf.ComponentUI;
+import com.formdev.flatlaf.FlatLaf;
+import com.formdev.flatlaf.FlatSystemProperties;
+
+/**
+ * Collects paint statistics of FlatLaf UI delegates, components, borders and icons.
+ * <p>
+ * Disabled by default. Enable with system property
+ * {@link FlatSystemProperties#PAINT_STATISTICS flatlaf.paintStatistics}{@code =true}.
+ * If disabled, the measure methods, {@link #begin()} and
+ * {@link #end(long, Object, PaintMethod, int, int)} do nothing
+ * and are removed by the JIT compiler.
+ * <p>
+ * For each class and paint method, the number of invocations, the total and
+ * maximum paint time and the painted area (in pixels) are recorded.
+ * UI delegates are measured in {@code update()} (see {@link #measureUpdate}),
+ * borders in {@code paintBorder()} (see {@link #measurePaintBorder})
+ * and icons in {@code paintIcon()} of {@link com.formdev.flatlaf.icons.FlatAbstractIcon}.
+ * Times include nested painting (e.g. the time of {@code update()} of a button
+ * includes the time of its icon, but not the time of child components).
+ * <p>
+ * If Java Flight Recorder is available (Java 12 or later) and a recording is running,
+ * each measured paint is also reported as JFR event {@code com.formdev.flatlaf.Paint}.
+ * <p>
+ * The times needed to create and show popups are not paint times and therefore
+ * not included in {@link #getEntries()}. They are reported (see {@link #popupShown})
+ * as JFR event {@code com.formdev.flatlaf.ShowPopup}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author agent
+ */
+public class PaintStatistics
+{
+	private static final boolean enabled = FlatSystemProperties.getBoolean( FlatSystemProperties.PAINT_STATISTICS, false );
+
+	private static final ClassValue<Entry[]> entriesMap = new ClassValue<Entry[]>() {
+		@Override
+		protected Entry[] computeValue( Class<?> type ) {
+			return new Entry[PaintMethod.values().length];
+		}
+	};
+	private static final List<Entry> allEntries = new CopyOnWriteArrayList<>();
+
+	/** The component (of a UI delegate) or the border that is currently measured; per thread. */
+	private static final ThreadLocal<Object> measured = new ThreadLocal<>();
+
+	private static final JfrEvents jfrPaintEvents = enabled
+		? JfrEvents.create( "com.formdev.flatlaf.Paint", "FlatLaf Paint", new Object[][] {
+			{ String.class, "painterClass", "Painter Class" },
+			{ String.class, "paintMethod", "Paint Method" },
+			{ long.class, "paintTime", "Paint Time" },
+			{ int.class, "width", "Width" },
+			{ int.class, "height", "Height" },
+		} )
+		: null;
+	private static final JfrEvents jfrShowPopupEvents = enabled
+		? JfrEvents.create( "com.formdev.flatlaf.ShowPopup", "FlatLaf Show Popup", new Object[][] {
+			{ String.class, "contentsClass", "Contents Class" },
+			{ long.class, "showTime", "Show Time" },
+			{ int.class, "width", "Width" },
+			{ int.class, "height", "Height" },
+		} )
+		: null;
+
+	/**
+	 * The paint methods.
+	 */
+	public enum PaintMethod {
+		/** {@code ComponentUI.update(Graphics, JComponent)} */
+		UPDATE,
+		/** {@code Border.paintBorder(Component, Graphics, int, int, int, int)} */
+		PAINT_BORDER,
+		/** {@code Icon.paintIcon(Component, Graphics, int, int)} */
+		PAINT_ICON
+	}
+
+	/**
+	 * Returns whether paint statistics are enabled.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Measures the {@code update(Graphics, JComponent)} method of a UI delegate.
+	 * Used at the beginning of {@code update()} methods of UI delegates:
+	 * <pre>
+	 * if( PaintStatistics.measureUpdate( this, g, c ) )
+	 *     return;
+	 * </pre>
+	 * If enabled, this invokes {@code ui.update(g, c)} again, records the paint time
+	 * and returns {@code true}. In the nested invocation (and if disabled),
+	 * this returns {@code false} and the update method paints the component.
+	 */
+	public static boolean measureUpdate( ComponentUI ui, Graphics g, JComponent c ) {
+		if( !enabled )
+			return false;
+
+		Object oldMeasured = measured.get();
+		if( oldMeasured == c )
+			return false;
+
+		long startTime = System.nanoTime();
+		measured.set( c );
+		try {
+			ui.update( g, c );
+		} finally {
+			measured.set( oldMeasured );
+			end( startTime, ui, PaintMethod.UPDATE, c.getWidth(), c.getHeight() );
+		}
+		return true;
+	}
+
+	/**
+	 * Measures the {@code paintBorder()} method of a border.
+	 * Used at the beginning of {@code paintBorder()} methods of borders:
+	 * <pre>
+	 * if( PaintStatistics.measurePaintBorder( this, c, g, x, y, width, height ) )
+	 *     return;
+	 * </pre>
+	 * Works the same way as {@link #measureUpdate(ComponentUI, Graphics, JComponent)}.
+	 * Subclasses that invoke {@code super.paintBorder()} are measured only once.
+	 */
+	public static boolean measurePaintBorder( Border border, Component c, Graphics g,
+		int x, int y, int width, int height )
+	{
+		if( !enabled )
+			return false;
+
+		Object oldMeasured = measured.get();
+		if( oldMeasured == border )
+			return false;
+
+		long startTime = System.nanoTime();
+		measured.set( border );
+		try {
+			border.paintBorder( c, g, x, y, width, height );
+		} finally {
+			measured.set( oldMeasured );
+			end( startTime, border, PaintMethod.PAINT_BORDER, width, height );
+		}
+		return true;
+	}
+
+	/**
+	 * Invoked at the beginning of a paint method.
+	 * Returns the start time, which must be passed to
+	 * {@link #end(long, Object, PaintMethod, int, int)}.
+	 */
+	public static long begin() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Invoked at the end of a paint method (usually in a {@code finally} block).
+	 *
+	 * @param startTime the value returned by {@link #begin()}
+	 * @param painter the UI delegate, component, border or icon
+	 * @param method the paint method
+	 * @param width the width of the painted area
+	 * @param height the height of the painted area
+	 */
+	public static void end( long startTime, Object painter, PaintMethod method, int width, int height ) {
+		if( !enabled )
+			return;
+
+		long nanos = System.nanoTime() - startTime;
+		Class<?> painterClass = painter.getClass();
+
+		Entry[] entries = entriesMap.get( painterClass );
+		Entry entry = entries[method.ordinal()];
+		if( entry == null ) {
+			synchronized( entries ) {
+				entry = entries[method.ordinal()];
+				if( entry == null ) {
+					entry = new Entry( painterClass, method );
+					entries[method.ordinal()] = entry;
+					allEntries.add( entry );
+				}
+			}
+		}
+		entry.add( nanos, (long) Math.max( width, 0 ) * Math.max( height, 0 ) );
+
+		if( jfrPaintEvents != null && jfrPaintEvents.isEnabled() )
+			jfrPaintEvents.commit( painterClass.getName(), method.name(), nanos, width, height );
+	}
+
+	/**
+	 * Invoked after a popup was shown the first time.
+	 * Reports the time needed to create and show the popup
+	 * as JFR event {@code com.formdev.flatlaf.ShowPopup}.
+	 *
+	 * @param startTime the value returned by {@link #begin()} before the popup was created
+	 * @param contents the popup contents
+	 * @param width the width of the popup contents
+	 * @param height the height of the popup contents
+	 */
+	public static void popupShown( long startTime, Object contents, int width, int height ) {
+		if( !enabled )
+			return;
+
+		long nanos = System.nanoTime() - startTime;
+		if( jfrShowPopupEvents != null && jfrShowPopupEvents.isEnabled() )
+			jfrShowPopupEvents.commit( contents.getClass().getName(), nanos, width, height );
+	}
+
+	/**
+	 * Returns a snapshot of the recorded statistics, sorted by total time (descending).
+	 */
+	public static List<Entry> getEntries() {
+		List<Entry> result = new ArrayList<>( allEntries.size() );
+		for( Entry entry : allEntries )
+			result.add( entry.copy() );
+		result.sort( (e1, e2) -> Long.compare( e2.totalNanos, e1.totalNanos ) );
+		return Collections.unmodifiableList( result );
+	}
+
+	/**
+	 * Resets all recorded statistics.
+	 */
+	public static void reset() {
+		for( Entry entry : allEntries )
+			entry.reset();
+	}
+
+	//---- class Entry --------------------------------------------------------
+
+	/**
+	 * Paint statistics of a class and paint method.
+	 */
+	public static class Entry
+	{
+		private final Class<?> painterClass;
+		private final PaintMethod method;
+
+		private long count;
+		private long totalNanos;
+		private long maxNanos;
+		private long pixelArea;
+
+		Entry( Class<?> painterClass, PaintMethod method ) {
+			this.painterClass = painterClass;
+			this.method = method;
+		}
+
+		synchronized void add( long nanos, long area ) {
+			count++;
+			totalNanos += nanos;
+			maxNanos = Math.max( maxNanos, nanos );
+			pixelArea += area;
+		}
+
+		synchronized void reset() {
+			count = 0;
+			totalNanos = 0;
+			maxNanos = 0;
+			pixelArea = 0;
+		}
+
+		synchronized Entry copy() {
+			Entry entry = new Entry( painterClass, method );
+			entry.count = count;
+			entry.totalNanos = totalNanos;
+			entry.maxNanos = maxNanos;
+			entry.pixelArea = pixelArea;
+			return entry;
+		}
+
+		/** The class of the UI delegate, component, border or icon. */
+		public Class<?> getPainterClass() {
+			return painterClass;
+		}
+
+		public PaintMethod getMethod() {
+			return method;
+		}
+
+		/** Number of paints. */
+		public long getCount() {
+			return count;
+		}
+
+		/** Total paint time in nanoseconds. */
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		/** Maximum paint time in nanoseconds. */
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		/** Sum of painted areas in pixels (unscaled). */
+		public long getPixelArea() {
+			return pixelArea;
+		}
+
+		@Override
+		public String toString() {
+			return painterClass.getName() + "." + method + ": count=" + count
+				+ " total=" + totalNanos + "ns max=" + maxNanos + "ns area=" + pixelArea;
+		}
+	}
+
+	//---- class JfrEvents ----------------------------------------------------
+
+	/**
+	 * Creates JFR events using {@code jdk.jfr.EventFactory} (Java 12+).
+	 * Uses method handles because FlatLaf is compiled for Java 8.
+	 * Events are only created if the event type is enabled in a running recording.
+	 */
+	private static class JfrEvents
+	{
+		private final MethodHandle isEnabledMethod;
+		private final MethodHandle newEventMethod;
+		private final MethodHandle setMethod;
+		private final MethodHandle commitMethod;
+
+		private JfrEvents( MethodHandle isEnabledMethod, MethodHandle newEventMethod,
+			MethodHandle setMethod, MethodHandle commitMethod )
+		{
+			this.isEnabledMethod = isEnabledMethod;
+			this.newEventMethod = newEventMethod;
+			this.setMethod = setMethod;
+			this.commitMethod = commitMethod;
+		}
+
+		/**
+		 * Creates an event type with the given name, label and fields.
+		 * Each field is specified as {@code { type, name, label }}.
+		 * Fields of type {@code long} are time spans in nanoseconds.
+		 */
+		static JfrEvents create( String name, String label, Object[][] fieldSpecs ) {
+			// jdk.jfr.EventFactory is available since Java 12
+			if( SystemInfo.javaVersion < SystemInfo.toVersion( 12, 0, 0, 0 ) )
+				return null;
+
+			try {
+				Class<?> eventFactoryClass = Class.forName( "jdk.jfr.EventFactory" );
+				Class<?> eventClass = Class.forName( "jdk.jfr.Event" );
+				Class<?> eventTypeClass = Class.forName( "jdk.jfr.EventType" );
+				Class<?> annotationElementClass = Class.forName( "jdk.jfr.AnnotationElement" );
+				Class<?> valueDescriptorClass = Class.forName( "jdk.jfr.ValueDescriptor" );
+
+				Constructor<?> annotationConstructor = annotationElementClass.getConstructor( Class.class, Object.class );
+				Constructor<?> valueConstructor = valueDescriptorClass.getConstructor( Class.class, String.class, List.class );
+
+				// event annotations
+				List<Object> annotations = Arrays.asList(
+					annotationConstructor.newInstance( Class.forName( "jdk.jfr.Name" ), name ),
+					annotationConstructor.newInstance( Class.forName( "jdk.jfr.Label" ), label ),
+					annotationConstructor.newInstance( Class.forName( "jdk.jfr.Category" ), new String[] { "FlatLaf" } ) );
+
+				// event fields (order must match commit())
+				Class<?> labelClass = Class.forName( "jdk.jfr.Label" );
+				Class<?> timespanClass = Class.forName( "jdk.jfr.Timespan" );
+				List<Object> fields = new ArrayList<>( fieldSpecs.length );
+				for( Object[] fieldSpec : fieldSpecs ) {
+					Class<?> fieldType = (Class<?>) fieldSpec[0];
+					Object labelAnnotation = annotationConstructor.newInstance( labelClass, fieldSpec[2] );
+					fields.add( valueConstructor.newInstance( fieldType, fieldSpec[1], (fieldType == long.class)
+						? Arrays.asList( labelAnnotation, annotationConstructor.newInstance( timespanClass, "NANOSECONDS" ) )
+						: Collections.singletonList( labelAnnotation ) ) );
+				}
+
+				Object eventFactory = eventFactoryClass.getMethod( "create", List.class, List.class )
+					.invoke( null, annotations, fields );
+				Object eventType = eventFactoryClass.getMethod( "getEventType" ).invoke( eventFactory );
+
+				MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+				return new JfrEvents(
+					lookup.findVirtual( eventTypeClass, "isEnabled", MethodType.methodType( boolean.class ) )
+						.bindTo( eventType ),
+					lookup.findVirtual( eventFactoryClass, "newEvent", MethodType.methodType( eventClass ) )
+						.bindTo( eventFactory )
+						.asType( MethodType.methodType( Object.class ) ),
+					lookup.findVirtual( eventClass, "set", MethodType.methodType( void.class, int.class, Object.class ) )
+						.asType( MethodType.methodType( void.class, Object.class, int.class, Object.class ) ),
+					lookup.findVirtual( eventClass, "commit", MethodType.methodType( void.class ) )
+						.asType( MethodType.methodType( void.class, Object.class ) ) );
+			} catch( ClassNotFoundException ex ) {
+				// JFR not available (e.g. module jdk.jfr not resolved)
+				return null;
+			} catch( Exception ex ) {
+				Logger.getLogger( FlatLaf.class.getName() ).log( Level.WARNING, "FlatLaf: Failed to create JFR event type '" + name + "'.", ex );
+				return null;
+			}
+		}
+
+		/**
+		 * Returns whether the event type is enabled in a running recording.
+		 * Check this before invoking {@link #commit(Object...)}
+		 * to avoid slowing down painting.
+		 */
+		boolean isEnabled() {
+			try {
+				return (boolean) isEnabledMethod.invokeExact();
+			} catch( Throwable ex ) {
+				return false;
+			}
+		}
+
+		void commit( Object... values ) {
+			try {
+				Object event = (Object) newEventMethod.invokeExact();
+				for( int i = 0; i < values.length; i++ )
+					setMethod.invokeExact( event, i, values[i] );
+				commitMethod.invokeExact( event );
+			} catch( Throwable ex ) {
+				// ignore
+			}
+		}
+	}
+}
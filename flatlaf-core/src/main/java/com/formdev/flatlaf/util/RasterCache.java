@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import javax.swing.UIManager;
+
+/**
+ * A cache for images of rendered (rasterized) icons,
+ * which can be enabled or disabled (disabled by default).
+ * <p>
+ * The least recently used images are removed if the cache exceeds the maximum size.
+ * The cache is cleared when the look and feel changes, and if colors or the
+ * gray filter are modified in the UI defaults (e.g. {@code UIManager.put( "Actions.Red", Color.red )}).
+ * <p>
+ * Like Swing, this class is not thread-safe and should be
+ * used only on the AWT event dispatching thread.
+ *
+ * @author agent
+ */
+public class RasterCache<K>
+	extends LRUCache<K, BufferedImage>
+{
+	private boolean enabled;
+	private boolean listenersInstalled;
+
+	public RasterCache( int maxSize ) {
+		super( maxSize );
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the cache. Disabling also removes all images.
+	 */
+	public void setEnabled( boolean enabled ) {
+		this.enabled = enabled;
+		if( enabled && !listenersInstalled ) {
+			listenersInstalled = true;
+
+			UIManager.addPropertyChangeListener( e -> {
+				if( "lookAndFeel".equals( e.getPropertyName() ) )
+					clear();
+			} );
+			UIManager.getDefaults().addPropertyChangeListener( e -> {
+				// colors used to paint icons or gray filter may have changed
+				if( e.getNewValue() instanceof Color || e.getOldValue() instanceof Color ||
+					"Component.grayFilter".equals( e.getPropertyName() ) ||
+					"UIDefaults".equals( e.getPropertyName() ) )
+					clear();
+			} );
+		}
+		if( !enabled )
+			clear();
+	}
+}
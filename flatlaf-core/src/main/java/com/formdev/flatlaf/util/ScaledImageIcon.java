@@ -29,7 +29,10 @@ import javax.swing.ImageIcon;
  * Scales the given image icon using the system and user scale factors and
  * paints the icon at system scale factor 1x. This gives best scaling quality.
  * If the given image icon supports multiple resolutions, the best resolution
- * variant is used. The last scaled image is cached for faster repainting.
+ * variant is used. Scaled images are cached for faster repainting.
+ * <p>
+ * Images for the last few scale factors are cached, which avoids rescaling on each
+ * repaint if a window is moved between (or spans) screens with different scale factors.
  *
  * @author Karl Tauber
  */
@@ -40,9 +43,12 @@ public class ScaledImageIcon
 	private final int iconWidth;
 	private final int iconHeight;
 
-	private double lastSystemScaleFactor;
-	private float lastUserScaleFactor;
-	private Image lastImage;
+	private static final int MAX_CACHED_IMAGES = 4;
+
+	/** Scale factors of cached images (most recently used first). */
+	private double[] cachedScaleFactors;
+	/** Cached scaled images (most recently used first). */
+	private Image[] cachedImages;
 
 	public ScaledImageIcon( ImageIcon imageIcon ) {
 		this( imageIcon, imageIcon.getIconWidth(), imageIcon.getIconHeight() );
@@ -83,11 +89,9 @@ debug*/
 		}
 
 		// paint cached scaled icon
-		if( systemScaleFactor == lastSystemScaleFactor &&
-			userScaleFactor == lastUserScaleFactor &&
-			lastImage != null )
-		{
-			paintLastImage( g, x, y );
+		Image cachedImage = getCachedImage( scaleFactor );
+		if( cachedImage != null ) {
+			paintImage( g, x, y, cachedImage, systemScaleFactor );
 			return;
 		}
 
@@ -123,12 +127,52 @@ debug*/
 		}
 
 		// cache image
-		lastSystemScaleFactor = systemScaleFactor;
-		lastUserScaleFactor = userScaleFactor;
-		lastImage = image;
+		cacheImage( scaleFactor, image );
 
 		// paint image
-		paintLastImage( g, x, y );
+		paintImage( g, x, y, image, systemScaleFactor );
+	}
+
+	/**
+	 * Returns the cached image for the given scale factor, or {@code null}.
+	 * Moves the found image to the front so that it is removed last.
+	 */
+	private Image getCachedImage( double scaleFactor ) {
+		if( cachedImages == null )
+			return null;
+
+		for( int i = 0; i < cachedImages.length; i++ ) {
+			Image image = cachedImages[i];
+			if( image == null )
+				break;
+
+			if( cachedScaleFactors[i] == scaleFactor ) {
+				if( i > 0 ) {
+					System.arraycopy( cachedScaleFactors, 0, cachedScaleFactors, 1, i );
+					System.arraycopy( cachedImages, 0, cachedImages, 1, i );
+					cachedScaleFactors[0] = scaleFactor;
+					cachedImages[0] = image;
+				}
+				return image;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Adds the given image to the front of the cache.
+	 * If the cache is full, the least recently used image is removed.
+	 */
+	private void cacheImage( double scaleFactor, Image image ) {
+		if( cachedImages == null ) {
+			cachedScaleFactors = new double[MAX_CACHED_IMAGES];
+			cachedImages = new Image[MAX_CACHED_IMAGES];
+		}
+
+		System.arraycopy( cachedScaleFactors, 0, cachedScaleFactors, 1, MAX_CACHED_IMAGES - 1 );
+		System.arraycopy( cachedImages, 0, cachedImages, 1, MAX_CACHED_IMAGES - 1 );
+		cachedScaleFactors[0] = scaleFactor;
+		cachedImages[0] = image;
 	}
 
 	protected Image getResolutionVariant( int destImageWidth, int destImageHeight ) {
@@ -136,14 +180,14 @@ debug*/
 			imageIcon.getImage(), destImageWidth, destImageHeight );
 	}
 
-	private void paintLastImage( Graphics g, int x, int y ) {
-		if( lastSystemScaleFactor > 1 ) {
+	private void paintImage( Graphics g, int x, int y, Image image, double systemScaleFactor ) {
+		if( systemScaleFactor > 1 ) {
 			HiDPIUtils.paintAtScale1x( (Graphics2D) g, x, y, 100, 100, // width and height are not used
 				(g2, x2, y2, width2, height2, scaleFactor2) -> {
-					g2.drawImage( lastImage, x2, y2, null );
+					g2.drawImage( image, x2, y2, null );
 				} );
 		} else
-			g.drawImage( lastImage, x, y, null );
+			g.drawImage( image, x, y, null );
 	}
 
 	/**
@@ -25,6 +25,7 @@ import java.awt.Image;
 import java.awt.Paint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.awt.image.RGBImageFilter;
 import java.net.URISyntaxException;
@@ -41,7 +42,9 @@ import com.formdev.flatlaf.FlatLaf.DisabledIconProvider;
 import com.formdev.flatlaf.ui.FlatUIUtils;
 import com.formdev.flatlaf.util.Graphics2DProxy;
 import com.formdev.flatlaf.util.GrayFilter;
+import com.formdev.flatlaf.util.HiDPIUtils;
 import com.formdev.flatlaf.util.MultiResolutionImageSupport;
+import com.formdev.flatlaf.util.RasterCache;
 import com.formdev.flatlaf.util.UIScale;
 import com.kitfox.svg.SVGDiagram;
 import com.kitfox.svg.SVGException;
@@ -59,6 +62,9 @@ public class FlatSVGIcon
 	// use own SVG universe so that it can not be cleared from anywhere
 	private static final SVGUniverse svgUniverse = new SVGUniverse();
 
+	private static final int RASTER_CACHE_SIZE = 500;
+	private static final RasterCache<RasterCacheKey> rasterCache = new RasterCache<>( RASTER_CACHE_SIZE );
+
 	private final String name;
 	private final int width;
 	private final int height;
@@ -296,13 +302,19 @@ public class FlatSVGIcon
 
 		// get gray filter
 		RGBImageFilter grayFilter = null;
+		Object grayFilterObj = null;
 		if( disabled ) {
-			Object grayFilterObj = UIManager.get( "Component.grayFilter" );
+			grayFilterObj = UIManager.get( "Component.grayFilter" );
 			grayFilter = (grayFilterObj instanceof RGBImageFilter)
 				? (RGBImageFilter) grayFilterObj
 				: GrayFilter.createDisabledIconFilter( dark );
 		}
 
+		if( rasterCache.isEnabled() && diagram != null && isRasterCacheSupported( (Graphics2D) g ) ) {
+			paintCached( (Graphics2D) g, x, y, grayFilter, grayFilterObj );
+			return;
+		}
+
 		Graphics2D g2 = new GraphicsFilter( (Graphics2D) g.create(), ColorFilter.getInstance(), grayFilter );
 
 		try {
@@ -315,6 +327,49 @@ public class FlatSVGIcon
 		}
 	}
 
+	/**
+	 * Raster cache can be used only if the graphics context is not rotated or sheared.
+	 */
+	private static boolean isRasterCacheSupported( Graphics2D g ) {
+		AffineTransform t = g.getTransform();
+		return (t.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) == 0 &&
+			t.getScaleX() > 0 && t.getScaleY() > 0;
+	}
+
+	/**
+	 * Paints the icon using an image from the raster cache.
+	 * The image is rendered in device pixels (at system scale factor)
+	 * and painted at scale 1x.
+	 */
+	private void paintCached( Graphics2D g, int x, int y, RGBImageFilter grayFilter, Object grayFilterObj ) {
+		HiDPIUtils.paintAtScale1x( g, x, y, getIconWidth(), getIconHeight(),
+			(g2, x2, y2, width2, height2, scaleFactor) -> {
+				if( width2 <= 0 || height2 <= 0 )
+					return;
+
+				ColorFilter colorFilter = ColorFilter.getInstance();
+				RasterCacheKey key = new RasterCacheKey( diagram, width2, height2, scaleFactor,
+					UIScale.getUserScaleFactor(), disabled, grayFilterObj, colorFilter.generation );
+				BufferedImage image = rasterCache.get( key );
+				if( image == null ) {
+					image = new BufferedImage( width2, height2, BufferedImage.TYPE_INT_ARGB );
+					Graphics2D ig = new GraphicsFilter( image.createGraphics(), colorFilter, grayFilter );
+					try {
+						FlatUIUtils.setRenderingHints( ig );
+						ig.setRenderingHint( RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR );
+						ig.scale( scaleFactor, scaleFactor );
+
+						paintSvg( ig, 0, 0 );
+					} finally {
+						ig.dispose();
+					}
+					rasterCache.put( key, image );
+				}
+
+				g2.drawImage( image, x2, y2, null );
+			} );
+	}
+
 	private void paintSvg( Graphics2D g, int x, int y ) {
 		if( diagram == null ) {
 			paintSvgError( g, x, y );
@@ -381,6 +436,43 @@ public class FlatSVGIcon
 		return MultiResolutionImageSupport.create( 0, dimensions, producer );
 	}
 
+	/**
+	 * Returns whether the raster cache is enabled.
+	 *
+	 * @see #setRasterCacheEnabled(boolean)
+	 */
+	public static boolean isRasterCacheEnabled() {
+		return rasterCache.isEnabled();
+	}
+
+	/**
+	 * Enables or disables the raster cache. Default is disabled.
+	 * <p>
+	 * If enabled, SVG icons are rendered (rasterized) only once into an image,
+	 * which is cached and used for further painting of icons with same SVG file,
+	 * size, scale factor, disabled state and color filter.
+	 * This improves painting performance of many icons (e.g. in trees, lists or tables).
+	 * The least recently used images are removed from the cache if the cache exceeds
+	 * 500 images.
+	 * The cache is cleared when the look and feel changes.
+	 * <p>
+	 * The cache is also cleared if colors or the gray filter are modified in the UI defaults
+	 * (e.g. {@code UIManager.put( "Actions.Red", Color.red )}).
+	 * <p>
+	 * If a color filter is used, use its methods to modify it
+	 * (e.g. {@link ColorFilter#add(Color, Color)}), which invalidate cached images.
+	 */
+	public static void setRasterCacheEnabled( boolean enabled ) {
+		rasterCache.setEnabled( enabled );
+	}
+
+	/**
+	 * Removes all images from the raster cache.
+	 */
+	public static void clearRasterCache() {
+		rasterCache.clear();
+	}
+
 	private static Boolean darkLaf;
 
 	private static boolean isDarkLaf() {
@@ -408,6 +500,9 @@ public class FlatSVGIcon
 		private final Map<Integer, String> rgb2keyMap = new HashMap<>();
 		private final Map<Color, Color> color2colorMap = new HashMap<>();
 
+		/** Incremented on each modification. Used to invalidate images in raster cache. */
+		private int generation;
+
 		public static ColorFilter getInstance() {
 			if( instance == null )
 				instance = new ColorFilter();
@@ -421,14 +516,17 @@ public class FlatSVGIcon
 
 		public void addAll( Map<Color, Color> from2toMap ) {
 			color2colorMap.putAll( from2toMap );
+			generation++;
 		}
 
 		public void add( Color from, Color to ) {
 			color2colorMap.put( from, to );
+			generation++;
 		}
 
 		public void remove( Color from ) {
 			color2colorMap.remove( from );
+			generation++;
 		}
 
 		public Color filter( Color color ) {
@@ -450,6 +548,62 @@ public class FlatSVGIcon
 		};
 	}
 
+	//---- class RasterCacheKey -----------------------------------------------
+
+	private static class RasterCacheKey
+	{
+		private final SVGDiagram diagram;
+		private final int width;
+		private final int height;
+		private final double scaleFactor;
+		private final float userScaleFactor;
+		private final boolean disabled;
+		private final Object grayFilter;
+		private final int colorFilterGeneration;
+
+		RasterCacheKey( SVGDiagram diagram, int width, int height, double scaleFactor,
+			float userScaleFactor, boolean disabled, Object grayFilter, int colorFilterGeneration )
+		{
+			this.diagram = diagram;
+			this.width = width;
+			this.height = height;
+			this.scaleFactor = scaleFactor;
+			this.userScaleFactor = userScaleFactor;
+			this.disabled = disabled;
+			this.grayFilter = grayFilter;
+			this.colorFilterGeneration = colorFilterGeneration;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof RasterCacheKey) )
+				return false;
+
+			RasterCacheKey key = (RasterCacheKey) obj;
+			return diagram == key.diagram &&
+				width == key.width &&
+				height == key.height &&
+				scaleFactor == key.scaleFactor &&
+				userScaleFactor == key.userScaleFactor &&
+				disabled == key.disabled &&
+				grayFilter == key.grayFilter &&
+				colorFilterGeneration == key.colorFilterGeneration;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode( diagram );
+			result = 31 * result + width;
+			result = 31 * result + height;
+			result = 31 * result + Double.hashCode( scaleFactor );
+			result = 31 * result + Float.floatToIntBits( userScaleFactor );
+			result = 31 * result + (disabled ? 1 : 0);
+			result = 31 * result + System.identityHashCode( grayFilter );
+			result = 31 * result + colorFilterGeneration;
+			return result;
+		}
+	}
+
 	//---- class GraphicsFilter -----------------------------------------------
 
 	private static class GraphicsFilter
@@ -33,7 +33,29 @@ java {
 	withJavadocJar()
 }
 
+// precompiled themes (see class com.formdev.flatlaf.IntelliJThemeSnapshot in flatlaf-core)
+val themesDir = file( "src/main/resources/com/formdev/flatlaf/intellijthemes/themes" )
+val precompiledThemesDir = file( "${buildDir}/generated/precompiled-themes" )
+
+sourceSets["main"].output.dir( mapOf( "builtBy" to "precompileThemes" ), precompiledThemesDir )
+
 tasks {
+	register<JavaExec>( "precompileThemes" ) {
+		description = "Converts the bundled IntelliJ themes (.theme.json files) into precompiled themes."
+
+		classpath = configurations["runtimeClasspath"]
+		main = "com.formdev.flatlaf.IntelliJThemeSnapshot"
+		jvmArgs( "-Djava.awt.headless=true" )
+		args( themesDir, "${precompiledThemesDir}/com/formdev/flatlaf/intellijthemes/themes" )
+
+		inputs.dir( themesDir )
+		outputs.dir( precompiledThemesDir )
+
+		doFirst {
+			delete( precompiledThemesDir )
+		}
+	}
+
 	javadoc {
 		options {
 			this as StandardJavadocDocletOptions
@@ -17,10 +17,12 @@
 package com.formdev.flatlaf.intellijthemes.materialthemeuilite;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.IntelliJTheme;
+import com.formdev.flatlaf.util.StringUtils;
 
 /**
  * @author Karl Tauber
@@ -30,9 +32,25 @@ class Utils
 	static final Logger LOG = Logger.getLogger( FlatLaf.class.getName() );
 
 	static IntelliJTheme loadTheme( String name ) {
+		String path = "/com/formdev/flatlaf/intellijthemes/themes/material-theme-ui-lite/" + name;
+
+		// load precompiled theme, which is created at build time from the .theme.json file
+		// (<name>.theme.json --> <name>.theme.defaults)
+		InputStream in = Utils.class.getResourceAsStream(
+			StringUtils.removeTrailing( path, ".json" ) + ".defaults" );
+		if( in != null ) {
+			try {
+				IntelliJTheme theme = IntelliJTheme.loadPrecompiled( in );
+				if( theme != null )
+					return theme;
+			} catch( IOException ex ) {
+				LOG.log( Level.WARNING, "FlatLaf: Failed to load precompiled IntelliJ theme '" + name + "'", ex );
+			}
+		}
+
+		// fallback: load .theme.json file
 		try {
-			return new IntelliJTheme( Utils.class.getResourceAsStream(
-				"/com/formdev/flatlaf/intellijthemes/themes/material-theme-ui-lite/" + name ) );
+			return new IntelliJTheme( Utils.class.getResourceAsStream( path ) );
 		} catch( IOException ex ) {
 			String msg = "FlatLaf: Failed to load IntelliJ theme '" + name + "'";
 			LOG.log( Level.SEVERE, msg, ex );
@@ -23,6 +23,7 @@ include( "flatlaf-jide-oss" )
 include( "flatlaf-intellij-themes" )
 include( "flatlaf-demo" )
 include( "flatlaf-testing" )
+include( "flatlaf-benchmarks" )
 include( "flatlaf-theme-editor" )
 
 pluginManagement {